@@ -3,12 +3,17 @@ package com.has.mt;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.async.ThreadUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.ObjectMap; // For tracking loaded player assets
 import com.badlogic.gdx.utils.Array; // For storing paths
 
+import com.has.mt.gameobjects.ArchetypeRegistry;
 import com.has.mt.interfaces.GameExceptionMessages; // Import exception messages
 import java.util.HashSet; // Using HashSet for efficient checking
 import java.util.Set;
@@ -16,14 +21,31 @@ import java.util.Set;
 
 public class AssetLoader {
     public final AssetManager manager = new AssetManager();
+    // What exists under assets/ (sizes, sheet layouts); loaded at boot, replaces exists() probes
+    public final AssetManifest manifest = new AssetManifest();
+    // Characters and enemies (assets/archetypes.txt): ids, factories, stats; loaded at boot
+    public final ArchetypeRegistry archetypes = new ArchetypeRegistry();
+    // Reference counts and the texture memory budget; decides when textures are unloaded
+    public final AssetResidency residency = new AssetResidency(manager, GameConfig.TEXTURE_BUDGET_MB * 1024L * 1024L);
+    // Worker threads that decode queued PNGs ahead of the AssetManager's single loader thread
+    public final PixmapDecodePool decodePool = new PixmapDecodePool(GameConfig.DECODE_WORKER_THREADS, manifest);
+    // Caps texture upload bytes per frame while streaming; large textures are uploaded over several frames
+    public final TextureUploadScheduler uploads = new TextureUploadScheduler(GameConfig.TEXTURE_UPLOAD_BUDGET_KB * 1024L);
 
     // Keep track of which player's assets are currently loaded
     private String currentlyLoadedPlayerType = null;
+    // Character whose sheets character select has started loading ahead of Start
+    private String prefetchedPlayerType = null;
+    // Assets whose load threw; no longer tracked, so nothing waits on them
+    private final ObjectSet<String> failedPaths = new ObjectSet<>();
+    // Idle sheets shown by character select
+    private final Array<String> previewPaths = new Array<>();
     // Store the paths associated with each player type
     public final ObjectMap<String, Array<String>> playerAssetPaths = new ObjectMap<>(); // Made public for GameScreen check
 
     // Define asset paths
     public static final String UI_SKIN_PATH = "ui/uiskin.json";
+    public static final String UI_FONT_TTF_PATH = "ui/font.ttf"; // Optional, distance field font falls back to the skin font
 
     // --- Player Base Paths ---
     public static final String KNIGHT_BASE_PATH = "Characters/Knight/Knight_1/";
@@ -126,34 +148,6 @@ public class AssetLoader {
     public static final String SAMURAI_COMMANDER_PROTECT_PATH = SAMURAI_COMMANDER_BASE_PATH + "Protect.png"; // 1x1?
 
     // --- Enemy Paths --- (No changes needed here if correct before)
-    // Slime Paths...
-    public static final String SLIME_BLUE_IDLE_PATH = "Enemy/SlimeEnemy/Blue_Slime/Idle.png";
-    public static final String SLIME_BLUE_WALK_PATH = "Enemy/SlimeEnemy/Blue_Slime/walk.png";
-    public static final String SLIME_BLUE_RUN_PATH = "Enemy/SlimeEnemy/Blue_Slime/Run.png";
-    public static final String SLIME_BLUE_ATTACK1_PATH = "Enemy/SlimeEnemy/Blue_Slime/Attack_1.png";
-    public static final String SLIME_BLUE_ATTACK2_PATH = "Enemy/SlimeEnemy/Blue_Slime/Attack_2.png";
-    public static final String SLIME_BLUE_ATTACK3_PATH = "Enemy/SlimeEnemy/Blue_Slime/Attack_3.png";
-    public static final String SLIME_BLUE_HURT_PATH = "Enemy/SlimeEnemy/Blue_Slime/Hurt.png";
-    public static final String SLIME_BLUE_DEAD_PATH = "Enemy/SlimeEnemy/Blue_Slime/Dead.png";
-    public static final String SLIME_BLUE_JUMP_PATH = "Enemy/SlimeEnemy/Blue_Slime/Jump.png";
-    public static final String SLIME_GREEN_IDLE_PATH = "Enemy/SlimeEnemy/Green_Slime/Idle.png";
-    public static final String SLIME_GREEN_WALK_PATH = "Enemy/SlimeEnemy/Green_Slime/Walk.png";
-    public static final String SLIME_GREEN_RUN_PATH = "Enemy/SlimeEnemy/Green_Slime/Run.png";
-    public static final String SLIME_GREEN_ATTACK1_PATH = "Enemy/SlimeEnemy/Green_Slime/Attack_1.png";
-    public static final String SLIME_GREEN_ATTACK2_PATH = "Enemy/SlimeEnemy/Green_Slime/Attack_2.png";
-    public static final String SLIME_GREEN_ATTACK3_PATH = "Enemy/SlimeEnemy/Green_Slime/Attack_3.png";
-    public static final String SLIME_GREEN_HURT_PATH = "Enemy/SlimeEnemy/Green_Slime/Hurt.png";
-    public static final String SLIME_GREEN_DEAD_PATH = "Enemy/SlimeEnemy/Green_Slime/Dead.png";
-    public static final String SLIME_GREEN_JUMP_PATH = "Enemy/SlimeEnemy/Green_Slime/Jump.png";
-    public static final String SLIME_RED_IDLE_PATH = "Enemy/SlimeEnemy/Red_Slime/Idle.png";
-    public static final String SLIME_RED_WALK_PATH = "Enemy/SlimeEnemy/Red_Slime/Walk.png";
-    public static final String SLIME_RED_RUN_PATH = "Enemy/SlimeEnemy/Red_Slime/Run.png";
-    public static final String SLIME_RED_ATTACK1_PATH = "Enemy/SlimeEnemy/Red_Slime/Attack_1.png";
-    public static final String SLIME_RED_ATTACK2_PATH = "Enemy/SlimeEnemy/Red_Slime/Attack_2.png";
-    public static final String SLIME_RED_ATTACK3_PATH = "Enemy/SlimeEnemy/Red_Slime/Attack_3.png";
-    public static final String SLIME_RED_HURT_PATH = "Enemy/SlimeEnemy/Red_Slime/Hurt.png";
-    public static final String SLIME_RED_DEAD_PATH = "Enemy/SlimeEnemy/Red_Slime/Dead.png";
-    public static final String SLIME_RED_JUMP_PATH = "Enemy/SlimeEnemy/Red_Slime/Jump.png";
     // Skeleton Paths...
     public static final String SKELETON_WARRIOR_BASE_PATH = "Enemy/SkeletonEnemy/Skeleton_Warrior/";
     public static final String SKELETON_IDLE_PATH = SKELETON_WARRIOR_BASE_PATH + "Idle.png";
@@ -176,92 +170,85 @@ public class AssetLoader {
     // --- Floor Textures ---
     public static final String FLOOR_TEXTURE_SHEET = "FloorTextures/Textures-16.png";
 
+    public AssetLoader() {
+        manager.setLoader(Texture.class, new PooledTextureLoader(manager.getFileHandleResolver(), decodePool, uploads));
+        // Without a listener a failed load only throws out of update(); the asset would stay
+        // tracked and anything waiting for it (level loading, progress bars) would never finish
+        manager.setErrorListener((asset, throwable) -> {
+            Gdx.app.error("AssetLoader", GameExceptionMessages.ASSET_LOAD_FAILED + asset.fileName, throwable);
+            failedPaths.add(asset.fileName);
+            residency.forget(asset.fileName);
+        });
+    }
+
+    /**
+     * Steps the AssetManager for up to the given time, one task step at a time, and stops early
+     * once the frame's texture upload budget is spent. Returns true when everything queued is loaded.
+     * Use instead of manager.update(millis), which keeps retrying a texture that waits for budget.
+     */
+    public boolean update(int millis) {
+        long endTime = TimeUtils.millis() + millis;
+        while (true) {
+            if (manager.update()) return true;
+            if (uploads.isFrameBudgetSpent() || TimeUtils.millis() >= endTime) return false;
+            ThreadUtils.yield();
+        }
+    }
+
+    public boolean hasFailed(String path) {
+        return failedPaths.contains(path);
+    }
+
     public void loadInitialAssets() {
         Gdx.app.log("AssetLoader", "Starting INITIAL asset loading...");
+        manifest.load();
+        archetypes.load(manifest);
+        // Queued in the order they are needed: the AssetManager loads front to back,
+        // so the main menu (skin) and character select (previews) become usable first.
+        // Enemy and floor sheets are loaded per level (see LevelAssets).
         manager.load(UI_SKIN_PATH, Skin.class);
-        manager.load(FLOOR_TEXTURE_SHEET, Texture.class);
-        loadAllEnemyAssets();
         definePlayerAssetPaths();
         loadCharacterPreviewAssets();
         Gdx.app.log("AssetLoader", "Initial asset loading queued.");
     }
 
-    // Defines which assets belong to which player type string
+    // Each playable archetype's sheets, from its entries in sheets.txt
     private void definePlayerAssetPaths() {
         playerAssetPaths.clear();
-
-        // Knight_1
-        Array<String> knightPaths = new Array<>();
-        knightPaths.add(KNIGHT_IDLE_PATH); knightPaths.add(KNIGHT_WALK_PATH); knightPaths.add(KNIGHT_RUN_PATH);
-        knightPaths.add(KNIGHT_JUMP_PATH); knightPaths.add(KNIGHT_ATTACK1_PATH); knightPaths.add(KNIGHT_ATTACK2_PATH);
-        knightPaths.add(KNIGHT_ATTACK3_PATH); knightPaths.add(KNIGHT_HURT_PATH); knightPaths.add(KNIGHT_DEAD_PATH);
-        knightPaths.add(KNIGHT_DEFEND_PATH);
-        playerAssetPaths.put("Knight_1", knightPaths);
-
-        // LightningMage
-        Array<String> magePaths = new Array<>();
-        magePaths.add(MAGE_IDLE_PATH); magePaths.add(MAGE_WALK_PATH); magePaths.add(MAGE_JUMP_PATH);
-        magePaths.add(MAGE_RUN_PATH); magePaths.add(MAGE_LIGHT_ATTACK_PATH); magePaths.add(MAGE_HEAVY_ATTACK_PATH);
-        magePaths.add(MAGE_CHARGED_PATH); magePaths.add(MAGE_LIGHTNING_BALL_PATH); magePaths.add(MAGE_VADER_STRIKE_PATH);
-        magePaths.add(MAGE_HURT_PATH); magePaths.add(MAGE_DEAD_PATH);
-        playerAssetPaths.put("LightningMage", magePaths);
-
-        // Fire Wizard
-        Array<String> fireWizardPaths = new Array<>();
-        fireWizardPaths.add(FIRE_WIZARD_IDLE_PATH); fireWizardPaths.add(FIRE_WIZARD_WALK_PATH); fireWizardPaths.add(FIRE_WIZARD_RUN_PATH);
-        fireWizardPaths.add(FIRE_WIZARD_JUMP_PATH); fireWizardPaths.add(FIRE_WIZARD_ATTACK1_PATH); fireWizardPaths.add(FIRE_WIZARD_ATTACK2_PATH);
-        fireWizardPaths.add(FIRE_WIZARD_HURT_PATH); fireWizardPaths.add(FIRE_WIZARD_DEAD_PATH); fireWizardPaths.add(FIRE_WIZARD_CHARGE_PATH);
-        fireWizardPaths.add(FIRE_WIZARD_FIREBALL_PATH); fireWizardPaths.add(FIRE_WIZARD_FLAME_JET_PATH);
-        playerAssetPaths.put("FireWizard", fireWizardPaths);
-
-        // Wanderer Mage
-        Array<String> wandererMagePaths = new Array<>();
-        wandererMagePaths.add(WANDERER_MAGE_IDLE_PATH); wandererMagePaths.add(WANDERER_MAGE_WALK_PATH); wandererMagePaths.add(WANDERER_MAGE_RUN_PATH);
-        wandererMagePaths.add(WANDERER_MAGE_JUMP_PATH); wandererMagePaths.add(WANDERER_MAGE_ATTACK1_PATH); wandererMagePaths.add(WANDERER_MAGE_ATTACK2_PATH);
-        wandererMagePaths.add(WANDERER_MAGE_HURT_PATH); wandererMagePaths.add(WANDERER_MAGE_DEAD_PATH); wandererMagePaths.add(WANDERER_MAGE_CHARGE1_PATH);
-        wandererMagePaths.add(WANDERER_MAGE_CHARGE2_PATH); wandererMagePaths.add(WANDERER_MAGE_MAGIC_ARROW_PATH); wandererMagePaths.add(WANDERER_MAGE_MAGIC_SPHERE_PATH);
-        playerAssetPaths.put("WandererMage", wandererMagePaths);
-
-        // Samurai
-        Array<String> samuraiPaths = new Array<>();
-        samuraiPaths.add(SAMURAI_IDLE_PATH); samuraiPaths.add(SAMURAI_WALK_PATH); samuraiPaths.add(SAMURAI_RUN_PATH);
-        samuraiPaths.add(SAMURAI_JUMP_PATH); samuraiPaths.add(SAMURAI_ATTACK1_PATH); samuraiPaths.add(SAMURAI_ATTACK2_PATH);
-        samuraiPaths.add(SAMURAI_ATTACK3_PATH); samuraiPaths.add(SAMURAI_HURT_PATH); samuraiPaths.add(SAMURAI_DEAD_PATH);
-        samuraiPaths.add(SAMURAI_PROTECTION_PATH);
-        playerAssetPaths.put("Samurai", samuraiPaths);
-
-        // Samurai Archer
-        Array<String> samuraiArcherPaths = new Array<>();
-        samuraiArcherPaths.add(SAMURAI_ARCHER_IDLE_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_WALK_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_RUN_PATH);
-        samuraiArcherPaths.add(SAMURAI_ARCHER_JUMP_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_ATTACK1_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_ATTACK2_PATH);
-        samuraiArcherPaths.add(SAMURAI_ARCHER_ATTACK3_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_HURT_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_DEAD_PATH);
-        samuraiArcherPaths.add(SAMURAI_ARCHER_SHOT_PATH); samuraiArcherPaths.add(SAMURAI_ARCHER_ARROW_PATH);
-        playerAssetPaths.put("SamuraiArcher", samuraiArcherPaths);
-
-        // Samurai Commander
-        Array<String> samuraiCommanderPaths = new Array<>();
-        samuraiCommanderPaths.add(SAMURAI_COMMANDER_IDLE_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_WALK_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_RUN_PATH);
-        samuraiCommanderPaths.add(SAMURAI_COMMANDER_JUMP_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_ATTACK1_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_ATTACK2_PATH);
-        samuraiCommanderPaths.add(SAMURAI_COMMANDER_ATTACK3_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_HURT_PATH); samuraiCommanderPaths.add(SAMURAI_COMMANDER_DEAD_PATH);
-        samuraiCommanderPaths.add(SAMURAI_COMMANDER_PROTECT_PATH);
-        playerAssetPaths.put("SamuraiCommander", samuraiCommanderPaths);
-
+        for (ArchetypeRegistry.Archetype archetype : archetypes.getPlayers()) {
+            playerAssetPaths.put(archetype.name, new Array<>(archetype.sheets));
+        }
         Gdx.app.log("AssetLoader", "Defined asset paths for " + playerAssetPaths.size + " player types.");
     }
 
     // Loads only the IDLE textures needed for the character selection previews
     public void loadCharacterPreviewAssets() {
         Gdx.app.log("AssetLoader", "Loading Character Preview Assets (Idle)...");
-        loadAsset(KNIGHT_IDLE_PATH, Texture.class);
-        loadAsset(MAGE_IDLE_PATH, Texture.class);
-        loadAsset(FIRE_WIZARD_IDLE_PATH, Texture.class);
-        loadAsset(WANDERER_MAGE_IDLE_PATH, Texture.class);
-        loadAsset(SAMURAI_IDLE_PATH, Texture.class);
-        loadAsset(SAMURAI_ARCHER_IDLE_PATH, Texture.class);
-        loadAsset(SAMURAI_COMMANDER_IDLE_PATH, Texture.class);
+        for (ArchetypeRegistry.Archetype archetype : archetypes.getPlayers()) {
+            loadPreviewAsset(archetype.previewPath);
+        }
         Gdx.app.log("AssetLoader", "Character Preview Assets queued.");
     }
 
+    // Cached without a reference: evictable until character select acquires them
+    private void loadPreviewAsset(String path) {
+        if (!assetExists(path)) return;
+        previewPaths.add(path);
+        if (residency.preload(path, Texture.class)) decodePool.submit(path);
+    }
+
+    // Pins the preview textures while character select is showing (loads any that were evicted)
+    public void acquirePreviewAssets() {
+        acquireTextures(AssetResidency.Consumer.PREVIEWS, previewPaths);
+    }
+
+    public void releasePreviewAssets() {
+        for (String path : previewPaths) {
+            residency.release(AssetResidency.Consumer.PREVIEWS, path);
+        }
+        cancelAbandonedDecodes();
+    }
+
     // Loads ALL assets for a specific player type
     public void loadPlayerAssets(String playerType) {
         if (playerType == null || playerType.isEmpty()) {
@@ -273,15 +260,15 @@ public class AssetLoader {
             return;
         }
 
-        unloadCurrentPlayerAssets();
-
         Gdx.app.log("AssetLoader", "Loading assets for player type: " + playerType);
         Array<String> pathsToLoad = playerAssetPaths.get(playerType);
         if (pathsToLoad != null && pathsToLoad.size > 0) {
-            for (String path : pathsToLoad) {
-                loadAsset(path, Texture.class);
-            }
+            // Acquire before releasing, so sheets shared with the prefetch are never dropped
+            String previousType = currentlyLoadedPlayerType;
+            acquireTextures(AssetResidency.Consumer.PLAYER, pathsToLoad);
             currentlyLoadedPlayerType = playerType;
+            releasePlayerSheets(AssetResidency.Consumer.PLAYER, previousType);
+            releasePrefetchedAssets();
             Gdx.app.log("AssetLoader", "Assets queued for: " + playerType);
         } else {
             Gdx.app.error("AssetLoader", "No asset paths defined for player type: " + playerType);
@@ -293,45 +280,122 @@ public class AssetLoader {
     public void unloadCurrentPlayerAssets() {
         if (currentlyLoadedPlayerType != null) {
             Gdx.app.log("AssetLoader", "Unloading assets for player type: " + currentlyLoadedPlayerType);
-            Array<String> pathsToUnload = playerAssetPaths.get(currentlyLoadedPlayerType);
-            if (pathsToUnload != null) {
-                int unloadedCount = 0;
-                for (String path : pathsToUnload) {
-                    if (manager.isLoaded(path)) {
-                        manager.unload(path);
-                        unloadedCount++;
-                    }
-                }
-                Gdx.app.log("AssetLoader", "Unloaded " + unloadedCount + " assets for " + currentlyLoadedPlayerType);
-            }
+            int releasedCount = releasePlayerSheets(AssetResidency.Consumer.PLAYER, currentlyLoadedPlayerType);
+            Gdx.app.log("AssetLoader", "Released " + releasedCount + " assets for " + currentlyLoadedPlayerType + " (kept cached until evicted)");
             currentlyLoadedPlayerType = null;
         }
     }
 
-    // Loads all common enemy assets
-    private void loadAllEnemyAssets() {
-        Gdx.app.log("AssetLoader", "Loading All Enemy Assets...");
-        // Slime...
-        loadAsset(SLIME_BLUE_IDLE_PATH, Texture.class); loadAsset(SLIME_BLUE_WALK_PATH, Texture.class); loadAsset(SLIME_BLUE_RUN_PATH, Texture.class);
-        loadAsset(SLIME_BLUE_ATTACK1_PATH, Texture.class); loadAsset(SLIME_BLUE_ATTACK2_PATH, Texture.class); loadAsset(SLIME_BLUE_ATTACK3_PATH, Texture.class);
-        loadAsset(SLIME_BLUE_HURT_PATH, Texture.class); loadAsset(SLIME_BLUE_DEAD_PATH, Texture.class); loadAsset(SLIME_BLUE_JUMP_PATH, Texture.class);
-        loadAsset(SLIME_GREEN_IDLE_PATH, Texture.class); loadAsset(SLIME_GREEN_WALK_PATH, Texture.class); loadAsset(SLIME_GREEN_RUN_PATH, Texture.class);
-        loadAsset(SLIME_GREEN_ATTACK1_PATH, Texture.class); loadAsset(SLIME_GREEN_ATTACK2_PATH, Texture.class); loadAsset(SLIME_GREEN_ATTACK3_PATH, Texture.class);
-        loadAsset(SLIME_GREEN_HURT_PATH, Texture.class); loadAsset(SLIME_GREEN_DEAD_PATH, Texture.class); loadAsset(SLIME_GREEN_JUMP_PATH, Texture.class);
-        loadAsset(SLIME_RED_IDLE_PATH, Texture.class); loadAsset(SLIME_RED_WALK_PATH, Texture.class); loadAsset(SLIME_RED_RUN_PATH, Texture.class);
-        loadAsset(SLIME_RED_ATTACK1_PATH, Texture.class); loadAsset(SLIME_RED_ATTACK2_PATH, Texture.class); loadAsset(SLIME_RED_ATTACK3_PATH, Texture.class);
-        loadAsset(SLIME_RED_HURT_PATH, Texture.class); loadAsset(SLIME_RED_DEAD_PATH, Texture.class); loadAsset(SLIME_RED_JUMP_PATH, Texture.class);
-
-        // Skeleton Warrior
-        loadAsset(SKELETON_IDLE_PATH, Texture.class); loadAsset(SKELETON_WALK_PATH, Texture.class); loadAsset(SKELETON_RUN_PATH, Texture.class);
-        loadAsset(SKELETON_ATTACK1_PATH, Texture.class); loadAsset(SKELETON_ATTACK2_PATH, Texture.class); loadAsset(SKELETON_ATTACK3_PATH, Texture.class);
-        loadAsset(SKELETON_HURT_PATH, Texture.class); loadAsset(SKELETON_DEAD_PATH, Texture.class); loadAsset(SKELETON_PROTECT_PATH, Texture.class);
-
-        // Minotaur 1
-        loadAsset(MINOTAUR_IDLE_PATH, Texture.class); loadAsset(MINOTAUR_WALK_PATH, Texture.class); loadAsset(MINOTAUR_ATTACK_PATH, Texture.class);
-        loadAsset(MINOTAUR_HURT_PATH, Texture.class); loadAsset(MINOTAUR_DEAD_PATH, Texture.class);
-
-        Gdx.app.log("AssetLoader", "All Enemy Assets queued.");
+    /**
+     * Starts loading a character's sheets before Start is pressed (hover or selection in
+     * character select). Only one character is prefetched at a time: switching releases the
+     * previous one, which cancels its still-queued sheets and leaves the loaded ones cached.
+     */
+    public void prefetchPlayerAssets(String playerType) {
+        if (playerType == null || playerType.equals(currentlyLoadedPlayerType)) return;
+        Array<String> paths = playerAssetPaths.get(playerType);
+        if (paths == null) {
+            Gdx.app.error("AssetLoader", "Cannot prefetch, no asset paths defined for player type: " + playerType);
+            return;
+        }
+        if (playerType.equals(prefetchedPlayerType)) return;
+        releasePrefetchedAssets();
+        int queued = acquireTextures(AssetResidency.Consumer.PREFETCH, paths);
+        prefetchedPlayerType = playerType;
+        if (queued > 0) {
+            Gdx.app.log("AssetLoader", "Prefetching " + queued + " sheets for: " + playerType);
+        }
+    }
+
+    // Drops the prefetch references (e.g. leaving character select); loaded sheets stay cached
+    public void releasePrefetchedAssets() {
+        if (prefetchedPlayerType == null) return;
+        int count = releasePlayerSheets(AssetResidency.Consumer.PREFETCH, prefetchedPlayerType);
+        if (count > 0) Gdx.app.log("AssetLoader", "Released " + count + " prefetched sheets for " + prefetchedPlayerType);
+        prefetchedPlayerType = null;
+    }
+
+    // Adds a reference to each texture. Returns how many had to be queued.
+    private int acquireTextures(AssetResidency.Consumer consumer, Array<String> paths) {
+        return acquireAssets(consumer, paths, Texture.class);
+    }
+
+    private int acquireAssets(AssetResidency.Consumer consumer, Array<String> paths, Class<?> type) {
+        int queued = 0;
+        for (String path : paths) {
+            if (!assetExists(path)) continue;
+            if (residency.acquire(consumer, path, type)) {
+                queued++;
+                if (type == Texture.class) decodePool.submit(path); // Decoded in parallel, uploaded when the AssetManager reaches it
+            }
+        }
+        return queued;
+    }
+
+    private int releasePlayerSheets(AssetResidency.Consumer consumer, String playerType) {
+        Array<String> paths = playerType != null ? playerAssetPaths.get(playerType) : null;
+        if (paths == null) return 0;
+        for (String path : paths) {
+            if (path != null) residency.release(consumer, path);
+        }
+        cancelAbandonedDecodes();
+        return paths.size;
+    }
+
+    // Holds a level's textures (enemy sheets, background layers) while it exists. Returns how many were queued.
+    public int acquireLevelTextures(Array<String> paths) {
+        return acquireTextures(AssetResidency.Consumer.LEVEL, paths);
+    }
+
+    // Same for images the level reads pixels from (the floor sheet); decoded on the loader thread
+    public int acquireLevelPixmaps(Array<String> paths) {
+        return acquireAssets(AssetResidency.Consumer.LEVEL, paths, Pixmap.class);
+    }
+
+    // Works for textures and pixmaps. Assets the next level doesn't share stay cached until
+    // the residency budget evicts them.
+    public void releaseLevelAssets(Array<String> paths) {
+        for (String path : paths) {
+            residency.release(AssetResidency.Consumer.LEVEL, path);
+        }
+        cancelAbandonedDecodes();
+    }
+
+    // Frees pixels decoded for textures that were released before they finished loading
+    private void cancelAbandonedDecodes() {
+        int cancelled = decodePool.cancelAbandoned(manager);
+        if (cancelled > 0) Gdx.app.debug("AssetLoader", "Dropped " + cancelled + " decodes for released textures");
+    }
+
+    // Fraction of the given assets that are loaded. Missing files (never queued) count as done.
+    public float getLoadedFraction(Array<String> paths) {
+        if (paths.size == 0) return 1f;
+        int loaded = 0;
+        for (String path : paths) {
+            if (!residency.isTracked(path) || manager.isLoaded(path)) loaded++;
+        }
+        return loaded / (float) paths.size;
+    }
+
+    // Blocks until the given assets are loaded (non-staged loading)
+    public void finishLoadingAssets(Array<String> paths) {
+        uploads.beginBlocking(); // Frame budget doesn't apply, the caller is waiting
+        try {
+            for (String path : paths) {
+                if (residency.isTracked(path) && !manager.isLoaded(path)) manager.finishLoadingAsset(path);
+            }
+        } finally {
+            uploads.endBlocking();
+        }
+    }
+
+    private boolean assetExists(String path) {
+        if (path == null || path.isEmpty()) return false;
+        if (!manifest.contains(path)) {
+            Gdx.app.error("AssetLoader", GameExceptionMessages.ASSET_NOT_FOUND + path);
+            return false;
+        }
+        return true;
     }
 
     // Helper method to safely queue loading and check file existence
@@ -340,7 +404,7 @@ public class AssetLoader {
             Gdx.app.error("AssetLoader", "Attempted to load asset with null or empty path.");
             return;
         }
-        if (!Gdx.files.internal(path).exists()) {
+        if (!manifest.contains(path)) {
             Gdx.app.error("AssetLoader", GameExceptionMessages.ASSET_NOT_FOUND + path);
             return; // Don't queue if file doesn't exist
         }
@@ -364,17 +428,23 @@ public class AssetLoader {
             throw new GameLogicException(GameExceptionMessages.ASSET_NOT_FOUND, "null or empty filename");
         }
 
+        residency.touch(fileName);
         if (!manager.isLoaded(fileName, type)) {
             Gdx.app.error("AssetLoader", "Asset not loaded and requested via get(): " + fileName + " (Type: " + type.getSimpleName() + ")");
-            if (!Gdx.files.internal(fileName).exists()) {
+            if (!manifest.contains(fileName)) {
                 // Throw specific exception if file missing during get()
                 throw new GameLogicException(GameExceptionMessages.ASSET_NOT_FOUND + fileName);
             }
             // Attempt synchronous load
             try {
                 Gdx.app.log("AssetLoader", "Attempting synchronous load for: " + fileName);
-                manager.load(fileName, type);
-                manager.finishLoadingAsset(fileName);
+                residency.preload(fileName, type); // Tracked like any other load, so it is measured and stays evictable
+                uploads.beginBlocking();
+                try {
+                    manager.finishLoadingAsset(fileName);
+                } finally {
+                    uploads.endBlocking();
+                }
                 if (manager.isLoaded(fileName, type)) {
                     Gdx.app.log("AssetLoader", "Synchronous load successful for: " + fileName);
                     return manager.get(fileName, type);
@@ -395,8 +465,17 @@ public class AssetLoader {
 
     public void dispose() {
         Gdx.app.log("AssetLoader", "Disposing AssetManager.");
-        manager.dispose();
+        uploads.beginBlocking(); // dispose() finishes queued loads first, and frames no longer advance
+        try {
+            manager.dispose();
+        } finally {
+            uploads.endBlocking();
+        }
+        decodePool.dispose(); // After the manager, its loader thread may be waiting on a decode
+        residency.clear();
         currentlyLoadedPlayerType = null;
+        prefetchedPlayerType = null;
+        previewPaths.clear();
         playerAssetPaths.clear();
     }
 }
@@ -0,0 +1,179 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Index of the files under assets/, written at build time by the generateAssetManifest Gradle
+ * task. Read once at startup, so existence checks, image sizes and sprite sheet layouts come
+ * from memory instead of file system probes (slow on some disks, not available in the web build).
+ * Without a generated manifest (run outside the Gradle build) it falls back to cached exists()
+ * checks and reads the sheet layouts straight from sheets.txt.
+ */
+public class AssetManifest {
+
+    public static final String MANIFEST_PATH = "assets.manifest";
+    public static final String SHEETS_PATH = "sheets.txt";
+    // Written by a launcher's build next to assets.manifest for files it generates (background variants)
+    public static final String VARIANTS_MANIFEST_PATH = "backgroundVariants.manifest";
+
+    // How a sprite sheet is cut into frames, and which player type / enemy it belongs to
+    public static class SheetLayout {
+        public final int cols;
+        public final int rows;
+        public final float frameDuration;
+        public final String archetype;
+
+        SheetLayout(int cols, int rows, float frameDuration, String archetype) {
+            this.cols = cols;
+            this.rows = rows;
+            this.frameDuration = frameDuration;
+            this.archetype = archetype;
+        }
+    }
+
+    public static class Entry {
+        public final String path;
+        public final long bytes;
+        public final int width; // 0 for non-PNG files
+        public final int height;
+        public final String hash; // SHA-1 of the file contents, null if the manifest predates it
+
+        Entry(String path, long bytes, int width, int height, String hash) {
+            this.path = path;
+            this.bytes = bytes;
+            this.width = width;
+            this.height = height;
+            this.hash = hash;
+        }
+    }
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final ObjectMap<String, SheetLayout> sheets = new ObjectMap<>();
+    private final ObjectMap<String, Boolean> probed = new ObjectMap<>(); // Fallback exists() results
+    private final Array<String> sortedPaths = new Array<>();
+    private boolean generated = false; // True when loaded from assets.manifest
+
+    public void load() {
+        entries.clear();
+        sheets.clear();
+        probed.clear();
+        sortedPaths.clear();
+        FileHandle manifestFile = Gdx.files.internal(MANIFEST_PATH);
+        generated = manifestFile.exists();
+        if (generated) {
+            parseManifest(manifestFile.readString("UTF-8"));
+            FileHandle variantsFile = Gdx.files.internal(VARIANTS_MANIFEST_PATH);
+            if (variantsFile.exists()) {
+                parseManifest(variantsFile.readString("UTF-8"));
+                sortedPaths.sort(); // Each file is sorted on its own
+            }
+            Gdx.app.log("AssetManifest", "Loaded " + entries.size + " assets, " + sheets.size + " sprite sheets.");
+        } else {
+            Gdx.app.error("AssetManifest", MANIFEST_PATH + " not found (run the Gradle build), falling back to file system checks.");
+            FileHandle sheetsFile = Gdx.files.internal(SHEETS_PATH);
+            if (sheetsFile.exists()) parseSheets(sheetsFile.readString("UTF-8"));
+            else Gdx.app.error("AssetManifest", SHEETS_PATH + " not found, sprite sheet layouts unavailable.");
+        }
+    }
+
+    private void parseManifest(String text) {
+        for (String line : text.split("\n")) {
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            String[] parts = line.split("\t");
+            if (parts.length < 8) {
+                Gdx.app.error("AssetManifest", "Skipping malformed manifest line: " + line);
+                continue;
+            }
+            try {
+                String path = parts[0];
+                String hash = parts.length > 8 && !parts[8].equals("-") ? parts[8] : null;
+                entries.put(path, new Entry(path, Long.parseLong(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), hash));
+                sortedPaths.add(path); // Written sorted by the Gradle task
+                int cols = Integer.parseInt(parts[4]);
+                if (cols > 0) {
+                    sheets.put(path, new SheetLayout(cols, Integer.parseInt(parts[5]), Float.parseFloat(parts[6]), parts[7]));
+                }
+            } catch (NumberFormatException e) {
+                Gdx.app.error("AssetManifest", "Skipping malformed manifest line: " + line, e);
+            }
+        }
+    }
+
+    // Same columns as the Gradle task reads: path | cols | rows | frame duration | archetype
+    private void parseSheets(String text) {
+        for (String line : text.split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            String[] parts = line.split("\\|");
+            if (parts.length != 5) {
+                Gdx.app.error("AssetManifest", "Skipping malformed sheets line: " + line);
+                continue;
+            }
+            try {
+                sheets.put(parts[0].trim(), new SheetLayout(Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim()),
+                    Float.parseFloat(parts[3].trim()), parts[4].trim()));
+            } catch (NumberFormatException e) {
+                Gdx.app.error("AssetManifest", "Skipping malformed sheets line: " + line, e);
+            }
+        }
+    }
+
+    public boolean contains(String path) {
+        if (path == null || path.isEmpty()) return false; // Safety check
+        if (generated) return entries.containsKey(path);
+        Boolean exists = probed.get(path);
+        if (exists == null) {
+            exists = Gdx.files.internal(path).exists();
+            probed.put(path, exists);
+        }
+        return exists;
+    }
+
+    // Null when there is no generated manifest or the path isn't an asset
+    public Entry get(String path) {
+        return entries.get(path);
+    }
+
+    public SheetLayout getSheet(String path) {
+        return sheets.get(path);
+    }
+
+    /**
+     * Files directly inside a directory (path ending in '/') whose name ends with the suffix,
+     * sorted by path. Lists the directory on disk when there is no generated manifest.
+     */
+    public Array<String> list(String directory, String suffix) {
+        Array<String> result = new Array<>();
+        if (generated) {
+            for (String path : sortedPaths) {
+                if (path.startsWith(directory) && path.indexOf('/', directory.length()) < 0 && path.endsWith(suffix)) {
+                    result.add(path);
+                }
+            }
+            return result;
+        }
+        FileHandle dirHandle = Gdx.files.internal(directory);
+        if (dirHandle.exists() && dirHandle.isDirectory()) {
+            for (FileHandle file : dirHandle.list(suffix)) result.add(file.path());
+            result.sort();
+        }
+        return result;
+    }
+
+    // Every sheet that belongs to a player type or enemy id
+    public Array<String> getArchetypeSheets(String archetype) {
+        Array<String> result = new Array<>();
+        for (ObjectMap.Entry<String, SheetLayout> sheet : sheets) {
+            if (sheet.value.archetype.equals(archetype)) result.add(sheet.key);
+        }
+        result.sort();
+        return result;
+    }
+
+    public boolean isGenerated() {
+        return generated;
+    }
+}
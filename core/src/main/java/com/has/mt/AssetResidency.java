@@ -0,0 +1,208 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Decides which textures stay in the AssetManager. Every asset is reference counted per
+ * consumer (previews, player, level, prefetch) and gets an estimated GPU size once loaded.
+ * Releasing the last reference does not unload it; it stays cached and is only evicted,
+ * least recently used first, when the resident total goes over the budget. An asset that
+ * is released before it finished loading is simply taken out of the load queue.
+ * Holds exactly one AssetManager reference per tracked asset.
+ */
+public class AssetResidency {
+
+    public enum Consumer { PREVIEWS, PLAYER, LEVEL, PREFETCH }
+
+    private static class Entry {
+        final String path;
+        final Class<?> type;
+        final int[] refs = new int[Consumer.values().length];
+        long bytes = -1; // -1 until loaded and measured
+        long lastUsed;
+
+        Entry(String path, Class<?> type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        int totalRefs() {
+            int total = 0;
+            for (int count : refs) total += count;
+            return total;
+        }
+    }
+
+    private final AssetManager manager;
+    private final long budgetBytes;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final Array<Entry> evictionCandidates = new Array<>(false, 32);
+    private long residentBytes = 0;
+    private int unmeasured = 0; // Entries still waiting for their first measurement
+    private long useCounter = 0; // Monotonic clock for LRU order
+    private boolean overBudgetLogged = false;
+
+    public AssetResidency(AssetManager manager, long budgetBytes) {
+        this.manager = manager;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Adds a reference for the consumer, queueing the asset if it isn't resident.
+     * Returns true if a load was queued.
+     */
+    public boolean acquire(Consumer consumer, String path, Class<?> type) {
+        Entry entry = track(path, type);
+        if (entry == null) return false;
+        entry.refs[consumer.ordinal()]++;
+        entry.lastUsed = ++useCounter;
+        return entry.bytes < 0 && queueIfMissing(entry);
+    }
+
+    // Loads the asset without holding a reference, so it is cached but evictable from the start.
+    // Returns true if a load was queued.
+    public boolean preload(String path, Class<?> type) {
+        Entry entry = track(path, type);
+        return entry != null && queueIfMissing(entry);
+    }
+
+    public void release(Consumer consumer, String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return;
+        int index = consumer.ordinal();
+        if (entry.refs[index] <= 0) return; // Not held by this consumer
+        entry.refs[index]--;
+        if (entry.totalRefs() == 0 && entry.bytes < 0 && !manager.isLoaded(path)) {
+            // Nobody wants it and it isn't in memory yet: drop it from the queue
+            manager.unload(path);
+            entries.remove(path);
+            unmeasured--;
+        }
+    }
+
+    // Stops tracking an asset that failed to load, whoever held it
+    public void forget(String path) {
+        Entry entry = entries.remove(path);
+        if (entry == null) return;
+        if (entry.bytes < 0) {
+            unmeasured--;
+        } else {
+            residentBytes -= entry.bytes;
+        }
+    }
+
+    // Marks an asset as just used (for the LRU order)
+    public void touch(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) entry.lastUsed = ++useCounter;
+    }
+
+    public boolean isTracked(String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Measures newly loaded assets and evicts unreferenced ones while over budget. Cheap when
+     * nothing is waiting to be measured and the total is within budget.
+     */
+    public void update() {
+        if (unmeasured > 0) {
+            for (Entry entry : entries.values()) {
+                if (entry.bytes < 0 && manager.isLoaded(entry.path)) {
+                    entry.bytes = estimateBytes(entry);
+                    residentBytes += entry.bytes;
+                    unmeasured--;
+                }
+            }
+        }
+        if (residentBytes > budgetBytes) evict();
+    }
+
+    private void evict() {
+        evictionCandidates.clear();
+        for (Entry entry : entries.values()) {
+            if (entry.bytes >= 0 && entry.totalRefs() == 0) evictionCandidates.add(entry);
+        }
+        evictionCandidates.sort((a, b) -> Long.compare(a.lastUsed, b.lastUsed)); // Oldest first
+        int evicted = 0;
+        for (Entry entry : evictionCandidates) {
+            if (residentBytes <= budgetBytes) break;
+            manager.unload(entry.path);
+            entries.remove(entry.path);
+            residentBytes -= entry.bytes;
+            evicted++;
+        }
+        evictionCandidates.clear();
+        if (evicted > 0) {
+            Gdx.app.log("AssetResidency", "Evicted " + evicted + " assets, resident " + (residentBytes >> 20) + " / " + (budgetBytes >> 20) + " MB");
+            overBudgetLogged = false;
+        } else if (!overBudgetLogged) {
+            // Everything left is in use; the budget is too small for what is on screen
+            Gdx.app.error("AssetResidency", "Over budget with nothing evictable: " + (residentBytes >> 20) + " / " + (budgetBytes >> 20) + " MB");
+            overBudgetLogged = true;
+        }
+    }
+
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public void clear() {
+        entries.clear();
+        residentBytes = 0;
+        unmeasured = 0;
+    }
+
+    private Entry track(String path, Class<?> type) {
+        if (path == null || path.isEmpty()) return null; // Safety check
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            entry = new Entry(path, type);
+            entry.lastUsed = ++useCounter;
+            entries.put(path, entry);
+            unmeasured++;
+        }
+        return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean queueIfMissing(Entry entry) {
+        if (manager.contains(entry.path)) return false; // Already loading or loaded (e.g. by a synchronous get()), adopt it
+        manager.load(entry.path, (Class<Object>) entry.type);
+        return true;
+    }
+
+    // GPU bytes for a texture (width * height * bytes per pixel, plus a third for mipmaps),
+    // CPU bytes for a pixmap kept for pixel access
+    private long estimateBytes(Entry entry) {
+        if (entry.type == Pixmap.class) {
+            Pixmap pixmap = manager.get(entry.path, Pixmap.class);
+            return (long) pixmap.getWidth() * pixmap.getHeight() * bytesPerPixel(pixmap.getFormat());
+        }
+        if (entry.type != Texture.class) return 0;
+        Texture texture = manager.get(entry.path, Texture.class);
+        long bytes = (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        if (texture.getTextureData().useMipMaps()) bytes += bytes / 3;
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format != null ? format : Pixmap.Format.RGBA8888) {
+            case Alpha:
+            case Intensity: return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444: return 2;
+            default: return 4; // RGB888 is usually padded to 4 bytes by the driver
+        }
+    }
+}
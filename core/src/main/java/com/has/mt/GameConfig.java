@@ -20,6 +20,9 @@ public class GameConfig {
     public static final float ENEMY_SCALE = 2.5f; // Visual scale factor for standard enemies
     public static final float ENEMY_DETECT_RANGE = 400f;
     public static final float ENEMY_ATTACK_RANGE = 80f;
+    public static final float ENEMY_HEALTH_BAR_WIDTH = 64f;
+    public static final float ENEMY_HEALTH_BAR_HEIGHT = 6f;
+    public static final float ENEMY_HEALTH_BAR_OFFSET_Y = 10f; // Gap between the sprite top and the bar
     public static final int ENEMY_KILL_SCORE = 100; // Score per enemy kill
     public static final int WIN_SCORE = 5000;      // Score required to win
 
@@ -31,14 +34,57 @@ public class GameConfig {
     // Debugging
     public static final boolean DEBUG_DRAW_BOXES = false; // Draw collision boxes (Set to false for release)
     public static final boolean DEBUG_DRAW_PATHS = false; // Draw AI paths (if implemented)
+    public static final boolean DEBUG_LOG_BATCH_STATS = false; // Log flush/draw-call counts once per second
 
     // Level/Background
     public static final float LEVEL_TRANSITION_DISTANCE = 3840f; // Distance before background change/fade
+    public static final float LEVEL_PREFETCH_PROGRESS = 0.5f; // Fraction of the level width where loading the next level starts
     public static final float FLOOR_PARALLAX_FACTOR = 0.8f; // How fast floor scrolls relative to player
     public static final float FLOOR_TILE_SCALE = 3.0f; // Visual scale of floor tiles
+    public static final boolean BACKGROUND_VARIANTS = true; // Load build-generated half/quarter size layers on small windows
+
+    // Rendering
+    public static final float CULL_MARGIN = 128f; // Extra world units around the camera before objects are culled
+    public static final boolean LOW_RES_WORLD = false; // Draw the world into a low-res FrameBuffer and upscale it
+    public static final int LOW_RES_WORLD_DIVISOR = 3; // 1920x1080 / 3 = 640x360, matches the 3x sprite scale
+    public static final boolean DYNAMIC_RESOLUTION = false; // Raise the divisor automatically when frames go over budget
+    public static final int DYNAMIC_RES_MAX_DIVISOR = 4; // Lowest dynamic resolution is 480x270
+    public static final float FRAME_TIME_BUDGET = 1f / 60f; // Target seconds per frame
+    public static final boolean PARALLEL_SPRITE_PREP = true; // Queue world sprites and build their vertices in bulk
+    public static final int PARALLEL_SPRITE_THRESHOLD = 128; // Below this many sprites the GL thread builds them alone
+    public static final int RENDER_WORKER_THREADS = 3; // Upper bound on vertex worker threads
+    public static final int POST_PROCESSING_QUALITY = 1; // Bloom is opt-in. 0 Off, 1 Low (vignette), 2 Medium (+ bloom), 3 High (+ film grain)
+    public static final boolean POST_PROCESSING_AUTO_DOWNGRADE = true; // Drop a tier when frames stay over budget
+    public static final float BLOOM_THRESHOLD = 0.8f; // Brightness above which pixels bloom
+    public static final float LOW_HEALTH_VIGNETTE_THRESHOLD = 0.35f; // Player health fraction where the vignette starts
+    public static final int PARTICLE_CAPACITY = 20000; // Fixed particle pool size, extra spawns are dropped
+    public static final int HIT_SPARK_COUNT = 14; // Sparks per landed hit
+    public static final int DEATH_BURST_COUNT = 40; // Particles when a hit kills
+    public static final float SNOW_PARTICLES_PER_SECOND = 120f; // Ambient snow rate on Winter levels
+    public static final boolean GOVERN_FRAME_RATE = true; // Non-continuous rendering on menus, FPS caps when unfocused/paused
+    public static final int UNFOCUSED_FPS = 15; // FPS cap while the window doesn't have focus
+    public static final int PAUSED_FPS = 30; // FPS cap while the game is paused
+    public static final boolean MULTI_TEXTURE_BATCH = true; // Use MultiTextureBatch as game.batch (falls back to SpriteBatch)
+    public static final int LOAD_STAGE_BUDGET_MS = 8; // Per-frame time spent building a GameScreen before showing progress
+    public static final int BOOT_LOAD_BUDGET_MS = 12; // Per-frame AssetManager time on the boot loading screen
+    public static final int BACKGROUND_LOAD_BUDGET_MS = 4; // Per-frame AssetManager time while other screens are up
+    public static final int DECODE_WORKER_THREADS = 0; // PNG decode threads for queued textures, 0 = one per core minus one
+    public static final boolean PIXEL_CACHE = true; // Keep decoded PNG pixels on disk so later runs skip decoding
+    public static final String PIXEL_CACHE_DIR = ".hackandslash/pixelcache/"; // Under the user's home directory
+    public static final int PIXEL_CACHE_MB = 512; // Least recently used cache files are deleted above this
+    public static final int TEXTURE_UPLOAD_BUDGET_KB = 2048; // Texture bytes uploaded per frame while streaming, bigger ones are split
+    public static final int TEXTURE_BUDGET_MB = 256; // Resident texture memory before unused textures are evicted (LRU)
+    public static final float PREFETCH_HOVER_DELAY = 0.15f; // Seconds a character button must be hovered before its sheets start loading
 
     // UI
     public static final float UI_PADDING = 15f; // Increased padding slightly
+    public static final boolean UI_DISTANCE_FIELD_FONT = true; // Convert the UI font to a distance field atlas at startup
+    public static final int UI_SDF_SPREAD = 4; // Distance field range in atlas texels
+    public static final int UI_FONT_SIZE = 17; // Pixel size the skin was laid out for (default.fnt)
+    public static final int UI_FONT_SOURCE_SIZE = 48; // Rasterisation size when generating from a TTF
+    public static final int MAX_DAMAGE_NUMBERS = 32; // Pooled floating damage numbers, the oldest is reused when all are up
+    public static final float DAMAGE_NUMBER_LIFETIME = 0.8f; // Seconds a damage number stays up
+    public static final float DAMAGE_NUMBER_RISE = 40f; // How far a damage number floats up over its lifetime
 
     // Add other constants as needed (damage values, cooldowns, etc.)
     public static final int LIGHT_ATTACK_DAMAGE = 15;
@@ -4,33 +4,39 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
 import com.has.mt.interfaces.GameExceptionMessages; // Import messages
+import com.has.mt.screens.LoadingScreen;
 import com.has.mt.screens.MainMenuScreen;
+import com.has.mt.screens.ScreenRegistry;
+import com.has.mt.ui.UiFonts;
+import com.has.mt.utils.FrameRateGovernor;
+import com.has.mt.utils.MultiTextureBatch;
 
 public class MyGdxGame extends Game {
     public SpriteBatch batch;
     public ShapeRenderer shapeRenderer;
     public AssetLoader assetLoader;
     public DatabaseManager dbManager; // Keep DB manager accessible
+    public UiFonts uiFonts; // Shared UI font (distance field when available)
+    public ScreenRegistry screens; // Cached menu screens and the shared UI viewport
+    public final FrameRateGovernor frameRateGovernor = new FrameRateGovernor(); // Screens set its mode in show()
+    private float batchStatsTimer = 0f;
+    private AsyncExecutor databaseExecutor; // Connects to MySQL off the render thread
+    private AsyncResult<DatabaseManager> databaseConnect; // null result = connect failed
 
     @Override
     public void create() {
-        batch = new SpriteBatch();
+        batch = createBatch();
         shapeRenderer = new ShapeRenderer();
         assetLoader = new AssetLoader();
 
         try {
-            // Start loading INITIAL assets immediately
+            // Start loading INITIAL assets immediately; LoadingScreen and render() pump the manager
             assetLoader.loadInitialAssets();
-            // Block until initial loading is complete (UI skin, common assets)
-            // Specific player assets are loaded later.
-            Gdx.app.log("MyGdxGame", "Waiting for initial assets to load...");
-            assetLoader.manager.finishLoading(); // Finish loading UI, enemies, previews etc.
-            Gdx.app.log("MyGdxGame", "Initial assets loaded.");
-
-            // Initialize DB AFTER assets potentially needed by DB error handling (like fonts/UI) are loaded
-            dbManager = DatabaseManager.getInstance();
-
+            connectDatabaseAsync();
         } catch (GameLogicException e) {
             Gdx.app.error("MyGdxGame", "Critical error during initialization!", e);
             // Handle critical failure - maybe display an error message screen or exit
@@ -43,25 +49,132 @@ public class MyGdxGame extends Game {
             return;
         }
 
-        Gdx.app.log("MyGdxGame", "Initialization Complete. Starting Main Menu.");
-        // Set the first screen (e.g., Main Menu)
-        this.setScreen(new MainMenuScreen(this));
+        Gdx.app.log("MyGdxGame", "Boot queued. Starting Loading Screen.");
+        // The main menu opens as soon as the skin is in, the rest keeps streaming
+        screens = new ScreenRegistry(this);
+        this.setScreen(new LoadingScreen(this));
+    }
+
+    // The connection (and table setup) can take seconds, so it must not hold up the first frame
+    private void connectDatabaseAsync() {
+        databaseExecutor = new AsyncExecutor(1, "DatabaseConnect");
+        databaseConnect = databaseExecutor.submit(() -> {
+            try {
+                DatabaseManager db = DatabaseManager.getInstance();
+                Gdx.app.postRunnable(() -> onDatabaseReady(db));
+                return db;
+            } catch (Exception e) {
+                Gdx.app.error("MyGdxGame", "Critical error connecting to the database!", e);
+                Gdx.app.postRunnable(() -> Gdx.app.exit()); // Same outcome as a failed synchronous connect
+            }
+            return null;
+        });
+    }
+
+    private void onDatabaseReady(DatabaseManager db) {
+        dbManager = db;
+        Gdx.app.log("MyGdxGame", "Database ready.");
+        if (screen instanceof MainMenuScreen) {
+            ((MainMenuScreen) screen).refreshLeaderboard();
+            Gdx.graphics.requestRendering(); // The menu renders on demand
+        }
+    }
+
+    /**
+     * Called by LoadingScreen once the UI skin is resident. Builds the shared distance field
+     * font. Returns false (and exits) if that fails.
+     */
+    public boolean onBootAssetsReady() {
+        try {
+            Skin skin = assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
+            uiFonts = UiFonts.create(assetLoader, skin);
+            uiFonts.applyToSkin(skin); // Every screen shares this skin instance
+            Gdx.app.log("MyGdxGame", "UI assets ready. Starting Main Menu.");
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("MyGdxGame", "Critical error preparing UI assets!", e);
+            Gdx.app.exit();
+            return false;
+        }
+    }
+
+    private SpriteBatch createBatch() {
+        if (GameConfig.MULTI_TEXTURE_BATCH) {
+            try {
+                return new MultiTextureBatch();
+            } catch (Exception e) {
+                Gdx.app.error("MyGdxGame", "MultiTextureBatch unavailable, using SpriteBatch", e);
+            }
+        }
+        return new SpriteBatch();
     }
 
     @Override
     public void render() {
         super.render(); // Important! Delegates render to the current screen
+        streamRemainingAssets();
+        if (batch instanceof MultiTextureBatch) {
+            MultiTextureBatch multiBatch = (MultiTextureBatch) batch;
+            if (GameConfig.DEBUG_LOG_BATCH_STATS) {
+                batchStatsTimer += Gdx.graphics.getDeltaTime();
+                if (batchStatsTimer >= 1f) {
+                    batchStatsTimer = 0f;
+                    Gdx.app.log("BatchStats", "Flushes: " + multiBatch.getFrameFlushes() + ", draw calls: " + multiBatch.getFrameDrawCalls()
+                        + ", slot-full flushes: " + multiBatch.getFrameSlotFlushes() + ", texture binds: " + multiBatch.getFrameTextureBinds());
+                }
+            }
+            multiBatch.resetFrameStats();
+        }
+    }
+
+    // Keeps loading whatever boot queued after the first screen is up, a few ms per frame,
+    // and keeps texture memory within budget
+    private void streamRemainingAssets() {
+        if (assetLoader == null || screen instanceof LoadingScreen) return; // LoadingScreen pumps it itself
+        try {
+            if (!assetLoader.update(GameConfig.BACKGROUND_LOAD_BUDGET_MS)) {
+                Gdx.graphics.requestRendering(); // Menus render on demand, keep frames coming until done
+            }
+        } catch (Exception e) {
+            Gdx.app.error("MyGdxGame", "Background asset loading failed", e);
+        }
+        assetLoader.residency.update(); // Measures what just loaded, evicts unused textures when over budget
+    }
+
+    @Override
+    public void pause() {
+        super.pause();
+        frameRateGovernor.setAppPaused(true);
+    }
+
+    @Override
+    public void resume() {
+        super.resume();
+        frameRateGovernor.setAppPaused(false);
+    }
+
+    // Called by the desktop launcher's window listener
+    public void setWindowFocused(boolean focused) {
+        frameRateGovernor.setWindowFocused(focused);
     }
 
     @Override
     public void dispose() {
         Gdx.app.log("MyGdxGame", "Disposing Game Resources.");
-        if (screen != null) {
-            screen.dispose(); // Dispose the current screen first
+        if (databaseExecutor != null) {
+            databaseExecutor.dispose(); // Waits for a connect still in progress
+            // A connect that finished during shutdown never reached onDatabaseReady(), close it here
+            if (dbManager == null && databaseConnect != null) dbManager = databaseConnect.get();
+            databaseExecutor = null;
+        }
+        if (screen != null && (screens == null || !screens.isCached(screen))) {
+            screen.dispose(); // Dispose the current screen first (cached ones go with the registry)
         }
+        if (screens != null) screens.dispose();
         // Dispose shared resources
         if (batch != null) batch.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
+        if (uiFonts != null) uiFonts.dispose();
         if (assetLoader != null) assetLoader.dispose();
         if (dbManager != null) {
             dbManager.close(); // Close DB connection
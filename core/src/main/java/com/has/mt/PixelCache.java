@@ -0,0 +1,148 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Decoded pixels of PNG assets, kept on disk between runs so a warm start skips the PNG inflate.
+ * One file per source image, named by the image's content hash: a small header (magic, version,
+ * width, height, format) followed by the raw pixels. Pixels are read by the channel straight into
+ * the Pixmap's native buffer, with no mapping left open on the file. Used from PixmapDecodePool
+ * workers; every call only touches its own file, so no locking is needed.
+ * Least recently used files are deleted at startup when the directory grows over its budget.
+ */
+public class PixelCache {
+
+    private static final int MAGIC = 0x48535058; // "HSPX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final String SUFFIX = ".px";
+
+    private final File directory; // null = disabled
+    private final long budgetBytes;
+
+    public PixelCache(String directoryPath, long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        File dir = null;
+        try {
+            dir = Gdx.files.external(directoryPath).file();
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                Gdx.app.error("PixelCache", "Cannot create cache directory " + dir + ", pixel cache disabled.");
+                dir = null;
+            }
+        } catch (Exception e) {
+            Gdx.app.error("PixelCache", "No external storage, pixel cache disabled.", e);
+            dir = null;
+        }
+        this.directory = dir;
+        if (directory != null) Gdx.app.log("PixelCache", "Caching decoded pixels in " + directory);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    // Null on a miss or an unreadable file (which is then deleted)
+    public Pixmap read(String key) {
+        if (directory == null || key == null) return null; // Safety check
+        File file = new File(directory, key + SUFFIX);
+        if (!file.isFile()) return null;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) throw new IOException("truncated header");
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) throw new IOException("truncated header");
+            }
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) throw new IOException("unknown format");
+            int width = header.getInt(8);
+            int height = header.getInt(12);
+            Pixmap.Format format = Pixmap.Format.fromGdx2DPixmapFormat(header.getInt(16));
+
+            Pixmap pixmap = new Pixmap(width, height, format);
+            ByteBuffer pixels = pixmap.getPixels().duplicate(); // Own position, the pixmap's buffer is untouched
+            pixels.clear();
+            if (pixels.remaining() != size - HEADER_BYTES) {
+                pixmap.dispose();
+                throw new IOException("size does not match " + width + "x" + height + " " + format);
+            }
+            while (pixels.hasRemaining()) {
+                if (channel.read(pixels) < 0) {
+                    pixmap.dispose();
+                    throw new IOException("truncated pixels");
+                }
+            }
+            file.setLastModified(System.currentTimeMillis()); // Recently used, kept when pruning
+            return pixmap;
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("PixelCache", "Discarding unreadable cache file " + file.getName() + ": " + e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    // Written to a temporary file and moved into place, so a reader never sees a partial file
+    public void write(String key, Pixmap pixmap) {
+        if (directory == null || key == null || pixmap == null) return; // Safety check
+        File target = new File(directory, key + SUFFIX);
+        if (target.isFile()) return;
+        File temp = null;
+        try {
+            temp = Files.createTempFile(directory.toPath(), key + ".", ".tmp").toFile(); // Unique per writer
+            try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(pixmap.getWidth()).putInt(pixmap.getHeight())
+                    .putInt(Pixmap.Format.toGdx2DPixmapFormat(pixmap.getFormat()));
+                header.flip();
+                while (header.hasRemaining()) channel.write(header);
+                ByteBuffer pixels = pixmap.getPixels().duplicate(); // Own position, the pixmap's buffer is untouched
+                pixels.position(0);
+                while (pixels.hasRemaining()) channel.write(pixels);
+            }
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("PixelCache", "Could not write cache file for " + key + ": " + e.getMessage());
+            if (temp != null) temp.delete();
+        }
+    }
+
+    // Deletes leftover temporary files and the least recently used entries beyond the budget
+    public void prune() {
+        if (directory == null) return;
+        File[] files = directory.listFiles();
+        if (files == null) return;
+        long total = 0;
+        int deleted = 0;
+        for (File file : files) {
+            if (file.getName().endsWith(".tmp")) {
+                if (file.delete()) deleted++;
+            } else {
+                total += file.length();
+            }
+        }
+        if (total > budgetBytes) {
+            Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified())); // Oldest first
+            for (File file : files) {
+                if (total <= budgetBytes) break;
+                if (!file.isFile() || !file.getName().endsWith(SUFFIX)) continue;
+                long length = file.length();
+                if (file.delete()) {
+                    total -= length;
+                    deleted++;
+                }
+            }
+        }
+        if (deleted > 0) Gdx.app.log("PixelCache", "Pruned " + deleted + " files, " + (total >> 20) + " / " + (budgetBytes >> 20) + " MB");
+    }
+}
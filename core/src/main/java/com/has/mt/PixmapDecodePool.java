@@ -0,0 +1,191 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Decodes PNGs into Pixmaps on a pool of worker threads. The AssetManager loads one asset at a
+ * time on a single thread, so textures queued through AssetLoader are also submitted here: by
+ * the time the AssetManager reaches one, its pixels are usually decoded already and
+ * PooledTextureLoader only hands them to the GL thread for the upload.
+ * Decodes nothing itself when disabled (web build, or a single worker configured).
+ * With the PixelCache enabled, workers read the pixels of images decoded on an earlier run
+ * instead of inflating the PNG again.
+ */
+public class PixmapDecodePool implements Disposable {
+
+    private class Job implements AsyncTask<Pixmap> {
+        final FileHandle file;
+        final String cacheKey; // Content hash from the manifest, null = hash the file bytes
+        AsyncResult<Pixmap> result;
+        Pixmap pixmap; // Decoded but not taken yet, guarded by this
+        boolean cancelled; // Guarded by this
+
+        Job(FileHandle file, String cacheKey) {
+            this.file = file;
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public Pixmap call() {
+            synchronized (this) {
+                if (cancelled) return null;
+            }
+            Pixmap decoded = decode(this);
+            synchronized (this) {
+                if (cancelled) { // Released while decoding
+                    decoded.dispose();
+                    return null;
+                }
+                pixmap = decoded;
+            }
+            return decoded;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (pixmap != null) {
+                pixmap.dispose();
+                pixmap = null;
+            }
+        }
+    }
+
+    private final AsyncExecutor executor; // null = disabled
+    private final PixelCache cache; // null = always decode the PNG
+    private final AssetManifest manifest;
+    private final int threads;
+    private final AtomicInteger cacheHits = new AtomicInteger();
+    private final ObjectMap<String, Job> jobs = new ObjectMap<>(); // Guarded by this
+    private final Array<String> abandoned = new Array<>();
+    private int decodedCount = 0;
+
+    public PixmapDecodePool(int configuredThreads, AssetManifest manifest) {
+        this.manifest = manifest;
+        this.threads = resolveThreads(configuredThreads);
+        this.executor = threads > 1 ? new AsyncExecutor(threads, "PixmapDecode") : null;
+        Gdx.app.log("PixmapDecodePool", executor != null ? "Decoding textures on " + threads + " threads." : "Disabled, textures decode on the AssetManager thread.");
+        if (executor != null && GameConfig.PIXEL_CACHE) {
+            cache = new PixelCache(GameConfig.PIXEL_CACHE_DIR, GameConfig.PIXEL_CACHE_MB * 1024L * 1024L);
+            cache.prune(); // Before any worker writes
+        } else {
+            cache = null;
+        }
+    }
+
+    // 0 = one per core, leaving one for the render thread
+    private static int resolveThreads(int configured) {
+        if (Gdx.app.getType() == Application.ApplicationType.WebGL) return 0; // No threads in the browser
+        if (configured > 0) return configured;
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    // Starts decoding an internal file if it isn't already being decoded
+    public synchronized void submit(String path) {
+        if (executor == null || path == null || jobs.containsKey(path)) return;
+        if (!path.toLowerCase().endsWith(".png")) return; // Other formats go through TextureData as usual
+        AssetManifest.Entry entry = manifest.get(path);
+        Job job = new Job(Gdx.files.internal(path), entry != null ? entry.hash : null);
+        jobs.put(path, job);
+        job.result = executor.submit(job);
+    }
+
+    // Runs on a worker: cached pixels if this exact image was decoded before, otherwise the PNG
+    private Pixmap decode(Job job) {
+        if (cache == null || !cache.isEnabled()) return new Pixmap(job.file);
+        String key = job.cacheKey;
+        byte[] encoded = null;
+        if (key == null) {
+            encoded = job.file.readBytes();
+            key = contentKey(encoded);
+        }
+        Pixmap pixmap = cache.read(key);
+        if (pixmap != null) {
+            cacheHits.incrementAndGet();
+            return pixmap;
+        }
+        pixmap = encoded != null ? new Pixmap(encoded, 0, encoded.length) : new Pixmap(job.file);
+        cache.write(key, pixmap); // Before the pixmap is handed out, nothing else touches it yet
+        return pixmap;
+    }
+
+    // Used without a generated manifest, which carries a SHA-1 per file instead
+    private static String contentKey(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(bytes.length);
+    }
+
+    /**
+     * Takes ownership of the decoded pixmap, waiting for its worker if it isn't done yet.
+     * Returns null if the path was never submitted. Called on the AssetManager thread.
+     */
+    public Pixmap take(String path) {
+        Job job;
+        synchronized (this) {
+            job = jobs.remove(path);
+        }
+        if (job == null) return null;
+        Pixmap pixmap = job.result.get(); // Rethrows a failed decode, the AssetManager reports it for this asset
+        synchronized (job) {
+            job.pixmap = null; // Now owned by the caller
+        }
+        synchronized (this) {
+            decodedCount++;
+        }
+        return pixmap;
+    }
+
+    /**
+     * Drops decodes whose asset left the AssetManager queue (released before it loaded), so their
+     * pixels are freed instead of waiting for a take() that never comes. Returns how many were dropped.
+     */
+    public synchronized int cancelAbandoned(AssetManager manager) {
+        if (jobs.size == 0) return 0;
+        abandoned.clear();
+        for (ObjectMap.Entry<String, Job> entry : jobs) {
+            if (!manager.contains(entry.key)) abandoned.add(entry.key);
+        }
+        for (String path : abandoned) {
+            jobs.remove(path).cancel();
+        }
+        int count = abandoned.size;
+        abandoned.clear();
+        return count;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public synchronized int getDecodedCount() {
+        return decodedCount;
+    }
+
+    // Call after the AssetManager is disposed, nothing may be waiting in take()
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            for (Job job : jobs.values()) job.cancel();
+            jobs.clear();
+        }
+        if (executor != null) executor.dispose(); // Waits for running decodes, which dispose their own result
+        Gdx.app.log("PixmapDecodePool", "Disposed after decoding " + decodedCount + " textures (" + cacheHits.get() + " from the pixel cache).");
+    }
+}
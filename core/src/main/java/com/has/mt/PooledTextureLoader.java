@@ -0,0 +1,191 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * TextureLoader that takes the pixels from PixmapDecodePool when the texture was submitted there,
+ * so the AssetManager thread only waits for a decode that is already running and the GL thread
+ * only uploads. Uploads go through the TextureUploadScheduler: loadSync returns null (the
+ * AssetManager calls it again next update) until the frame has budget, and textures larger
+ * than the budget are uploaded a band of rows at a time. Anything not in the pool (skin atlas
+ * pages, synchronous get() loads) is loaded the usual way.
+ */
+public class PooledTextureLoader extends TextureLoader {
+
+    // Storage allocated with no pixels; rows are filled in afterwards with glTexSubImage2D.
+    // Not managed: the lwjgl3 and web targets don't lose the GL context.
+    private static class AllocatedTextureData implements TextureData {
+        private final int width;
+        private final int height;
+        private final Pixmap.Format format;
+
+        AllocatedTextureData(int width, int height, Pixmap.Format format) {
+            this.width = width;
+            this.height = height;
+            this.format = format;
+        }
+
+        @Override public TextureDataType getType() { return TextureDataType.Custom; }
+        @Override public boolean isPrepared() { return true; }
+        @Override public void prepare() { }
+        @Override public Pixmap consumePixmap() { throw new GdxRuntimeException("AllocatedTextureData has no pixmap"); }
+        @Override public boolean disposePixmap() { return false; }
+        @Override public int getWidth() { return width; }
+        @Override public int getHeight() { return height; }
+        @Override public Pixmap.Format getFormat() { return format; }
+        @Override public boolean useMipMaps() { return false; }
+        @Override public boolean isManaged() { return false; }
+
+        @Override
+        public void consumeCustomData(int target) {
+            Gdx.gl.glTexImage2D(target, 0, Pixmap.Format.toGlFormat(format), width, height, 0,
+                Pixmap.Format.toGlFormat(format), Pixmap.Format.toGlType(format), null);
+        }
+    }
+
+    // Pooled pixels of one texture, from loadAsync until loadSync finishes the upload
+    private static class PooledUpload {
+        Pixmap pixmap;
+        boolean mipMaps;
+        Texture target;
+        Texture partial; // Texture being filled in slices, GL thread only
+        int uploadedRows;
+        boolean cancelled; // Unloaded before loadAsync handed the pixmap over
+    }
+
+    private final PixmapDecodePool pool;
+    private final TextureUploadScheduler uploads;
+    // Written on the loader thread, read and unloaded on the GL thread; guarded by this
+    private final ObjectMap<String, PooledUpload> pooled = new ObjectMap<>();
+
+    public PooledTextureLoader(FileHandleResolver resolver, PixmapDecodePool pool, TextureUploadScheduler uploads) {
+        super(resolver);
+        this.pool = pool;
+        this.uploads = uploads;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        PooledUpload upload = new PooledUpload();
+        synchronized (this) {
+            // Textures load one at a time, so anything left was unloaded before its loadAsync registered it
+            for (PooledUpload orphan : pooled.values()) {
+                if (orphan.pixmap != null) orphan.pixmap.dispose();
+            }
+            pooled.clear();
+            pooled.put(fileName, upload);
+        }
+        Pixmap pixmap = null;
+        if (parameter == null || parameter.textureData == null) pixmap = pool.take(fileName);
+        if (pixmap == null) {
+            synchronized (this) {
+                pooled.remove(fileName);
+            }
+            super.loadAsync(manager, fileName, file, parameter);
+            return;
+        }
+        Pixmap.Format format = parameter != null ? parameter.format : null;
+        if (format != null && format != pixmap.getFormat()) {
+            // Convert here rather than during the upload on the GL thread
+            Pixmap converted = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), format);
+            converted.setBlending(Pixmap.Blending.None);
+            converted.drawPixmap(pixmap, 0, 0);
+            pixmap.dispose();
+            pixmap = converted;
+        }
+        synchronized (this) {
+            if (upload.cancelled) { // Unloaded while this was waiting on the decode
+                pixmap.dispose();
+                return;
+            }
+            upload.pixmap = pixmap;
+            upload.mipMaps = parameter != null && parameter.genMipMaps;
+            upload.target = parameter != null ? parameter.texture : null;
+        }
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        PooledUpload upload;
+        synchronized (this) {
+            upload = pooled.get(fileName);
+        }
+        if (upload == null || upload.pixmap == null) return super.loadSync(manager, fileName, file, parameter);
+
+        Pixmap pixmap = upload.pixmap;
+        int height = pixmap.getHeight();
+        long rowBytes = pixmap.getPixels().capacity() / height;
+        long remainingBytes = rowBytes * (height - upload.uploadedRows);
+        // Mipmapped or reloaded textures can't be filled in slices, they wait for a frame with room for all of it
+        boolean sliceable = !upload.mipMaps && upload.target == null;
+        long granted = uploads.grant(remainingBytes, sliceable ? rowBytes : remainingBytes);
+        if (granted == 0) return null; // Budget spent, try again next frame
+
+        Texture texture;
+        if (upload.partial == null && granted == remainingBytes) {
+            // Fits in this frame: upload in one go
+            TextureData data = new PixmapTextureData(pixmap, null, upload.mipMaps, true); // Pixmap freed after upload
+            texture = upload.target;
+            if (texture != null) {
+                texture.load(data);
+            } else {
+                texture = new Texture(data);
+            }
+        } else {
+            if (upload.partial == null) {
+                upload.partial = new Texture(new AllocatedTextureData(pixmap.getWidth(), height, pixmap.getFormat()));
+                uploads.onTextureSliced();
+            }
+            int rows = (int) (granted / rowBytes);
+            upload.partial.bind();
+            Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+            ByteBuffer pixels = pixmap.getPixels();
+            pixels.position((int) (upload.uploadedRows * rowBytes));
+            Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, upload.uploadedRows, pixmap.getWidth(), rows,
+                pixmap.getGLFormat(), pixmap.getGLType(), pixels);
+            pixels.position(0);
+            upload.uploadedRows += rows;
+            if (upload.uploadedRows < height) return null; // More rows next frame
+
+            texture = upload.partial;
+            pixmap.dispose();
+        }
+        synchronized (this) {
+            pooled.remove(fileName);
+        }
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    // Unloaded while in progress (released before it finished loading), called on the GL thread.
+    // loadAsync may still be waiting on the decode; it sees the cancel and frees its own pixmap.
+    @Override
+    public void unloadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+        PooledUpload upload;
+        synchronized (this) {
+            upload = pooled.remove(fileName);
+            if (upload != null) upload.cancelled = true;
+        }
+        if (upload != null) {
+            if (upload.partial != null) upload.partial.dispose();
+            if (upload.pixmap != null) upload.pixmap.dispose();
+        }
+        super.unloadAsync(manager, fileName, file, parameter);
+    }
+}
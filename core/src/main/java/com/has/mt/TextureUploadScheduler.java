@@ -0,0 +1,76 @@
+package com.has.mt;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Per-frame byte budget for texture uploads on the GL thread. PooledTextureLoader asks it how much
+ * it may upload before each upload; a texture bigger than what is left is uploaded in row
+ * slices over the next frames, so streaming never adds more than the budget to a frame.
+ * Blocking loads (finishLoadingAsset) bypass the budget, they have to complete in one call.
+ */
+public class TextureUploadScheduler {
+
+    private final long frameBudgetBytes;
+    private long frameId = -1;
+    private long usedThisFrame = 0;
+    private boolean deniedThisFrame = false; // A grant returned 0, nothing more fits this frame
+    private int blockingDepth = 0;
+    private long slicedTextures = 0;
+
+    public TextureUploadScheduler(long frameBudgetBytes) {
+        this.frameBudgetBytes = frameBudgetBytes;
+    }
+
+    /**
+     * Grants up to the wanted bytes, in whole multiples of unit (a row, or the whole texture).
+     * The first upload of a frame always gets at least one unit so large rows still progress.
+     * Returns 0 when this frame's budget is spent.
+     */
+    public long grant(long wanted, long unit) {
+        if (wanted <= 0 || unit <= 0) return 0; // Safety check
+        if (blockingDepth > 0) return wanted;
+        long currentFrame = Gdx.graphics.getFrameId();
+        if (currentFrame != frameId) {
+            frameId = currentFrame;
+            usedThisFrame = 0;
+            deniedThisFrame = false;
+        }
+        long available = Math.min(wanted, frameBudgetBytes - usedThisFrame);
+        long granted = available > 0 ? (available / unit) * unit : 0;
+        if (granted == 0 && usedThisFrame == 0) granted = Math.min(unit, wanted);
+        usedThisFrame += granted;
+        if (granted == 0) deniedThisFrame = true;
+        return granted;
+    }
+
+    /**
+     * True once this frame's budget can't take another upload. The AssetManager retries a
+     * texture waiting for budget on every update, so callers pumping it stop here instead
+     * of spinning until their time budget runs out.
+     */
+    public boolean isFrameBudgetSpent() {
+        if (blockingDepth > 0 || Gdx.graphics.getFrameId() != frameId) return false;
+        return deniedThisFrame || usedThisFrame >= frameBudgetBytes;
+    }
+
+    // Lifts the budget until endBlocking(), for loads the caller waits on
+    public void beginBlocking() {
+        blockingDepth++;
+    }
+
+    public void endBlocking() {
+        if (blockingDepth > 0) blockingDepth--;
+    }
+
+    void onTextureSliced() {
+        slicedTextures++;
+    }
+
+    public long getSlicedTextures() {
+        return slicedTextures;
+    }
+
+    public long getFrameBudgetBytes() {
+        return frameBudgetBytes;
+    }
+}
@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.has.mt.AssetLoader;
+import com.has.mt.AssetManifest;
 // import com.has.mt.CustomFileNotFoundException; // Not used here directly
 import com.has.mt.gameobjects.Character; // Need Character.State enum
 import com.has.mt.utils.AnimationLoader;
@@ -41,6 +42,16 @@ public class AnimationComponent implements Disposable {
         }
     }
 
+    // Frame layout (cols, rows, frame duration) comes from the asset manifest (assets/sheets.txt)
+    public void addAnimation(Character.State state, String texturePath, Animation.PlayMode playMode) {
+        AssetManifest.SheetLayout layout = assetLoader.manifest.getSheet(texturePath);
+        if (layout == null) {
+            Gdx.app.error("AnimationComponent", "No sheet layout in the asset manifest for state: " + state + " from path: " + texturePath);
+            return;
+        }
+        addAnimation(state, texturePath, layout.cols, layout.rows, layout.frameDuration, playMode);
+    }
+
     public boolean hasAnimationForState(Character.State state) {
         return animations.containsKey(state);
     }
@@ -0,0 +1,94 @@
+package com.has.mt.components;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * World-space health bar drawn above a character from a single 1x1 region.
+ * The quads are built relative to the bar's bottom-center and only rebuilt when health
+ * changes; each frame just offsets them to the character's position.
+ */
+public class HealthBarComponent {
+    private static final int QUAD_SIZE = 20; // 4 vertices * (x, y, color, u, v)
+    private static final float BORDER = 2f;
+
+    private static final float BACKGROUND_COLOR = Color.toFloatBits(0f, 0f, 0f, 0.75f);
+    private static final float EMPTY_COLOR = Color.toFloatBits(0.35f, 0.05f, 0.05f, 0.9f);
+    private static final float FULL_COLOR = Color.toFloatBits(0.2f, 0.85f, 0.2f, 1f);
+    private static final float LOW_COLOR = Color.toFloatBits(0.9f, 0.2f, 0.1f, 1f);
+
+    private final float width;
+    private final float height;
+    private final float[] localVertices = new float[QUAD_SIZE * 3]; // Background, empty part, filled part
+    private final float[] worldVertices = new float[QUAD_SIZE * 3];
+    private int quadCount = 0;
+    private TextureRegion builtRegion;
+    private int lastHealth = -1;
+    private int lastMaxHealth = -1;
+
+    public HealthBarComponent(float width, float height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    // Rebuilds the local quads if health (or the region) changed since the last build
+    private void rebuildIfDirty(HealthComponent health, TextureRegion region) {
+        int current = health.getCurrentHealth();
+        int max = health.getMaxHealth();
+        if (current == lastHealth && max == lastMaxHealth && region == builtRegion) return;
+        lastHealth = current;
+        lastMaxHealth = max;
+        builtRegion = region;
+
+        float percent = health.getHealthPercentage();
+        float left = -width / 2f;
+        float fillWidth = width * percent;
+        quadCount = 0;
+        putQuad(region, left - BORDER, -BORDER, width + BORDER * 2f, height + BORDER * 2f, BACKGROUND_COLOR);
+        if (fillWidth < width) {
+            putQuad(region, left + fillWidth, 0, width - fillWidth, height, EMPTY_COLOR);
+        }
+        if (fillWidth > 0) {
+            putQuad(region, left, 0, fillWidth, height, percent > 0.3f ? FULL_COLOR : LOW_COLOR);
+        }
+        System.arraycopy(localVertices, 0, worldVertices, 0, quadCount * QUAD_SIZE); // Colors and UVs never change per frame
+    }
+
+    private void putQuad(TextureRegion region, float x, float y, float w, float h, float color) {
+        // Sample the middle of the region so filtering never pulls in neighbouring atlas pixels
+        float u = (region.getU() + region.getU2()) / 2f;
+        float v = (region.getV() + region.getV2()) / 2f;
+        int idx = quadCount * QUAD_SIZE;
+        putVertex(idx, x, y, color, u, v);
+        putVertex(idx + 5, x, y + h, color, u, v);
+        putVertex(idx + 10, x + w, y + h, color, u, v);
+        putVertex(idx + 15, x + w, y, color, u, v);
+        quadCount++;
+    }
+
+    private void putVertex(int idx, float x, float y, float color, float u, float v) {
+        localVertices[idx] = x;
+        localVertices[idx + 1] = y;
+        localVertices[idx + 2] = color;
+        localVertices[idx + 3] = u;
+        localVertices[idx + 4] = v;
+    }
+
+    /** Draws the bar with its bottom-center at (centerX, bottomY). The batch must be drawing. */
+    public void render(Batch batch, TextureRegion region, HealthComponent health, float centerX, float bottomY) {
+        if (batch == null || region == null || health == null) return; // Safety check
+        rebuildIfDirty(health, region);
+
+        int floats = quadCount * QUAD_SIZE;
+        for (int i = 0; i < floats; i += 5) {
+            worldVertices[i] = localVertices[i] + centerX;
+            worldVertices[i + 1] = localVertices[i + 1] + bottomY;
+        }
+        batch.draw(region.getTexture(), worldVertices, 0, floats);
+    }
+
+    public float getHeight() {
+        return height + BORDER * 2f;
+    }
+}
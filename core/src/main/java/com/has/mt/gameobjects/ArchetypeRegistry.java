@@ -0,0 +1,230 @@
+package com.has.mt.gameobjects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.has.mt.AssetLoader;
+import com.has.mt.AssetManifest;
+import com.has.mt.GameLogicException;
+import com.has.mt.ai.BasicChaseAI;
+import com.has.mt.ai.EnemyAI;
+import com.has.mt.gameobjects.enemies.MinotaurEnemy;
+import com.has.mt.gameobjects.enemies.SkeletonEnemy;
+import com.has.mt.gameobjects.enemies.SlimeEnemy;
+import com.has.mt.gameobjects.players.FireWizardPlayer;
+import com.has.mt.gameobjects.players.KnightPlayer;
+import com.has.mt.gameobjects.players.LightningMagePlayer;
+import com.has.mt.gameobjects.players.SamuraiArcherPlayer;
+import com.has.mt.gameobjects.players.SamuraiCommanderPlayer;
+import com.has.mt.gameobjects.players.SamuraiPlayer;
+import com.has.mt.gameobjects.players.WandererMagePlayer;
+import com.has.mt.interfaces.GameExceptionMessages;
+import com.has.mt.managers.ProjectileManager;
+
+/**
+ * Every playable character and enemy, read once at startup from assets/archetypes.txt. Each
+ * archetype gets an integer id (its line order) and its factory, AI and stat overrides are
+ * resolved while loading, so creating one is an array lookup. A new character or enemy that
+ * reuses an existing class (another slime colour, a re-skinned knight) only needs a line there
+ * and its sheets in sheets.txt; the class keys below are the only part that lives in code.
+ */
+public class ArchetypeRegistry {
+
+    public static final String ARCHETYPES_PATH = "archetypes.txt";
+    public static final int INVALID_ID = -1;
+
+    public interface PlayerFactory {
+        Player create(AssetLoader assetLoader, float x, float y, ProjectileManager projectileManager, Archetype archetype);
+    }
+
+    public interface EnemyFactory {
+        Enemy create(AssetLoader assetLoader, float x, float y, Archetype archetype);
+    }
+
+    public interface AIFactory {
+        EnemyAI create(Enemy enemy);
+    }
+
+    // Class keys usable in the factory column
+    private static final ObjectMap<String, PlayerFactory> PLAYER_CLASSES = new ObjectMap<>();
+    private static final ObjectMap<String, EnemyFactory> ENEMY_CLASSES = new ObjectMap<>();
+    private static final ObjectMap<String, AIFactory> AI_TYPES = new ObjectMap<>();
+    private static final ObjectMap<String, Class<? extends EnemyAI>> AI_CLASSES = new ObjectMap<>();
+    static {
+        PLAYER_CLASSES.put("knight", (l, x, y, p, a) -> new KnightPlayer(l, x, y));
+        PLAYER_CLASSES.put("lightning_mage", (l, x, y, p, a) -> new LightningMagePlayer(l, x, y, p));
+        PLAYER_CLASSES.put("fire_wizard", (l, x, y, p, a) -> new FireWizardPlayer(l, x, y, p));
+        PLAYER_CLASSES.put("wanderer_mage", (l, x, y, p, a) -> new WandererMagePlayer(l, x, y, p));
+        PLAYER_CLASSES.put("samurai", (l, x, y, p, a) -> new SamuraiPlayer(l, x, y));
+        PLAYER_CLASSES.put("samurai_archer", (l, x, y, p, a) -> new SamuraiArcherPlayer(l, x, y, p));
+        PLAYER_CLASSES.put("samurai_commander", (l, x, y, p, a) -> new SamuraiCommanderPlayer(l, x, y));
+
+        ENEMY_CLASSES.put("slime", (l, x, y, a) -> new SlimeEnemy(l, x, y, a.variant));
+        ENEMY_CLASSES.put("skeleton", (l, x, y, a) -> new SkeletonEnemy(l, x, y));
+        ENEMY_CLASSES.put("minotaur", (l, x, y, a) -> new MinotaurEnemy(l, x, y));
+
+        AI_TYPES.put("chase", BasicChaseAI::new);
+        AI_CLASSES.put("chase", BasicChaseAI.class);
+    }
+
+    public static class Archetype {
+        public final int id;
+        public final String name; // Player type or enemy id, as used by sheets.txt, spawn points and preferences
+        public final boolean player;
+        public final String variant; // Passed to the class (slime colour), null if none
+        public final String displayName;
+        public final String previewPath; // Idle sheet shown by character select, null for enemies
+        public final ObjectMap<String, Float> stats = new ObjectMap<>(); // Overrides of the class defaults
+        public final Array<String> sheets = new Array<>(); // From the asset manifest
+        PlayerFactory playerFactory;
+        EnemyFactory enemyFactory;
+        AIFactory aiFactory; // null = the class's own AI
+        Class<? extends EnemyAI> aiClass; // Kept when the class already creates this AI
+
+        Archetype(int id, String name, boolean player, String variant, String displayName, String previewPath) {
+            this.id = id;
+            this.name = name;
+            this.player = player;
+            this.variant = variant;
+            this.displayName = displayName;
+            this.previewPath = previewPath;
+        }
+    }
+
+    private final Array<Archetype> archetypes = new Array<>(); // Index = id
+    private final ObjectIntMap<String> idsByName = new ObjectIntMap<>();
+    private final Array<Archetype> players = new Array<>();
+    private final Array<Archetype> enemies = new Array<>();
+
+    public void load(AssetManifest manifest) {
+        archetypes.clear();
+        idsByName.clear();
+        players.clear();
+        enemies.clear();
+        FileHandle file = Gdx.files.internal(ARCHETYPES_PATH);
+        if (!file.exists()) {
+            throw new GameLogicException(GameExceptionMessages.ASSET_NOT_FOUND + ARCHETYPES_PATH);
+        }
+        for (String line : file.readString("UTF-8").split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            Archetype archetype = parse(line, archetypes.size);
+            if (archetype == null) continue;
+            if (idsByName.containsKey(archetype.name)) {
+                Gdx.app.error("ArchetypeRegistry", "Duplicate archetype, keeping the first: " + archetype.name);
+                continue;
+            }
+            archetype.sheets.addAll(manifest.getArchetypeSheets(archetype.name));
+            if (archetype.sheets.size == 0) Gdx.app.error("ArchetypeRegistry", "No sprite sheets in sheets.txt for archetype: " + archetype.name);
+            archetypes.add(archetype);
+            idsByName.put(archetype.name, archetype.id);
+            (archetype.player ? players : enemies).add(archetype);
+        }
+        Gdx.app.log("ArchetypeRegistry", "Loaded " + players.size + " player and " + enemies.size + " enemy archetypes.");
+    }
+
+    // id | kind | factory | variant | display name | preview sheet | ai | stats
+    private Archetype parse(String line, int id) {
+        String[] parts = line.split("\\|");
+        if (parts.length != 8) {
+            Gdx.app.error("ArchetypeRegistry", "Skipping malformed archetypes line: " + line);
+            return null;
+        }
+        for (int i = 0; i < parts.length; i++) parts[i] = parts[i].trim();
+        boolean player = parts[1].equals("player");
+        if (!player && !parts[1].equals("enemy")) {
+            Gdx.app.error("ArchetypeRegistry", "Unknown kind '" + parts[1] + "' in archetypes line: " + line);
+            return null;
+        }
+        // Enemy ids are matched case-insensitively (spawn points are normalised the same way)
+        String name = player ? parts[0] : parts[0].toLowerCase();
+        Archetype archetype = new Archetype(id, name, player, optional(parts[3]), parts[4], optional(parts[5]));
+        if (player) {
+            archetype.playerFactory = PLAYER_CLASSES.get(parts[2]);
+        } else {
+            archetype.enemyFactory = ENEMY_CLASSES.get(parts[2]);
+        }
+        if (archetype.playerFactory == null && archetype.enemyFactory == null) {
+            Gdx.app.error("ArchetypeRegistry", "Unknown " + parts[1] + " class '" + parts[2] + "' for archetype: " + name);
+            return null;
+        }
+        String ai = optional(parts[6]);
+        if (ai != null) {
+            archetype.aiFactory = AI_TYPES.get(ai);
+            archetype.aiClass = AI_CLASSES.get(ai);
+            if (archetype.aiFactory == null) Gdx.app.error("ArchetypeRegistry", "Unknown AI '" + ai + "' for " + name + ", using the class default.");
+        }
+        String stats = optional(parts[7]);
+        if (stats != null) {
+            for (String stat : stats.split(",")) {
+                String[] pair = stat.split("=");
+                try {
+                    archetype.stats.put(pair[0].trim(), Float.parseFloat(pair[1].trim()));
+                } catch (RuntimeException e) {
+                    Gdx.app.error("ArchetypeRegistry", "Skipping malformed stat '" + stat + "' for " + name);
+                }
+            }
+        }
+        return archetype;
+    }
+
+    private static String optional(String value) {
+        return value.isEmpty() || value.equals("-") ? null : value;
+    }
+
+    // INVALID_ID if unknown. Resolve once (level definition, character select), not per spawn.
+    public int getId(String name) {
+        if (name == null) return INVALID_ID; // Safety check
+        int id = idsByName.get(name, INVALID_ID);
+        return id != INVALID_ID ? id : idsByName.get(name.trim().toLowerCase(), INVALID_ID);
+    }
+
+    public Archetype get(int id) {
+        return id >= 0 && id < archetypes.size ? archetypes.get(id) : null;
+    }
+
+    // For log lines
+    public String getName(int id) {
+        Archetype archetype = get(id);
+        return archetype != null ? archetype.name : "#" + id;
+    }
+
+    public Archetype get(String name) {
+        return get(getId(name));
+    }
+
+    // In file order, the order character select lists them
+    public Array<Archetype> getPlayers() {
+        return players;
+    }
+
+    public Array<Archetype> getEnemies() {
+        return enemies;
+    }
+
+    public Player createPlayer(int id, AssetLoader assetLoader, float x, float y, ProjectileManager projectileManager) {
+        Archetype archetype = get(id);
+        if (archetype == null || archetype.playerFactory == null) {
+            throw new GameLogicException(GameExceptionMessages.INVALID_PLAYER_TYPE, archetype != null ? archetype.name : String.valueOf(id));
+        }
+        Player player = archetype.playerFactory.create(assetLoader, x, y, projectileManager, archetype);
+        player.applyStats(archetype.stats);
+        return player;
+    }
+
+    public Enemy createEnemy(int id, AssetLoader assetLoader, float x, float y) {
+        Archetype archetype = get(id);
+        if (archetype == null || archetype.enemyFactory == null) {
+            throw new GameLogicException(GameExceptionMessages.INVALID_ENEMY_TYPE, archetype != null ? archetype.name : String.valueOf(id));
+        }
+        Enemy enemy = archetype.enemyFactory.create(assetLoader, x, y, archetype);
+        EnemyAI current = enemy.getAI();
+        if (archetype.aiFactory != null && (current == null || current.getClass() != archetype.aiClass)) {
+            enemy.setAI(archetype.aiFactory.create(enemy));
+        }
+        enemy.applyStats(archetype.stats);
+        return enemy;
+    }
+}
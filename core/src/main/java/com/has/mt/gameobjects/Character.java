@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.has.mt.AssetLoader;
 import com.has.mt.GameConfig;
 import com.has.mt.GameLogicException; // Import
@@ -15,7 +16,9 @@ import com.has.mt.components.HealthComponent;
 import com.has.mt.components.PhysicsComponent;
 import com.has.mt.components.StateComponent;
 import com.has.mt.interfaces.GameExceptionMessages; // Import
+import com.has.mt.utils.CameraCuller;
 import com.has.mt.utils.DebugUtils;
+import com.has.mt.utils.SpriteRenderQueue;
 
 public abstract class Character {
     public Vector2 position;
@@ -72,21 +75,28 @@ public abstract class Character {
     public abstract void update(float delta);
     protected abstract void setupAnimations();
 
-    public void render(SpriteBatch batch) {
-        if (animationComponent == null || stateComponent == null || batch == null) return; // Safety check
+    // Current animation frame (idle as fallback), also resizes bounds to match it
+    private TextureRegion resolveFrame() {
+        if (animationComponent == null || stateComponent == null) return null; // Safety check
         TextureRegion currentFrame = animationComponent.getCurrentFrame(stateComponent.getCurrentState());
         if (currentFrame == null) {
             currentFrame = animationComponent.getCurrentFrame(State.IDLE); // Try idle as fallback
-            if(currentFrame == null) return; // Give up if idle is also missing
+            if(currentFrame == null) return null; // Give up if idle is also missing
+        }
+        if (bounds != null) { // Safety check
+            bounds.set(position.x, position.y, currentFrame.getRegionWidth() * scale, currentFrame.getRegionHeight() * scale);
         }
+        return currentFrame;
+    }
+
+    public void render(SpriteBatch batch) {
+        if (batch == null) return; // Safety check
+        TextureRegion currentFrame = resolveFrame();
+        if (currentFrame == null) return;
 
         float frameWidth = currentFrame.getRegionWidth() * scale;
         float frameHeight = currentFrame.getRegionHeight() * scale;
 
-        if (bounds != null) { // Safety check
-            bounds.set(position.x, position.y, frameWidth, frameHeight);
-        }
-
         if (facingRight) {
             batch.draw(currentFrame, position.x, position.y, frameWidth, frameHeight);
         } else {
@@ -94,6 +104,40 @@ public abstract class Character {
         }
     }
 
+    // Culled render path: only draw if the cached bounds overlap the camera view.
+    // Bounds keep the last rendered frame size, so off-screen characters skip frame lookup entirely.
+    public void render(SpriteBatch batch, CameraCuller culler) {
+        if (culler != null && bounds != null) {
+            if (bounds.width <= 0 || bounds.height <= 0) {
+                initBoundsSize(); // Never rendered yet, size bounds from the idle frame once
+            }
+            if (!culler.isVisible(bounds)) return;
+        }
+        render(batch);
+    }
+
+    // Queued variant of render(batch, culler); vertex data is built later by the queue
+    public void submit(SpriteRenderQueue queue, CameraCuller culler) {
+        if (queue == null) return; // Safety check
+        if (culler != null && bounds != null) {
+            if (bounds.width <= 0 || bounds.height <= 0) {
+                initBoundsSize();
+            }
+            if (!culler.isVisible(bounds)) return;
+        }
+        TextureRegion currentFrame = resolveFrame();
+        if (currentFrame == null) return;
+        queue.add(currentFrame, position.x, position.y,
+            currentFrame.getRegionWidth() * scale, currentFrame.getRegionHeight() * scale, !facingRight);
+    }
+
+    private void initBoundsSize() {
+        if (animationComponent == null) return;
+        TextureRegion idleFrame = animationComponent.getCurrentFrame(State.IDLE);
+        if (idleFrame == null) return;
+        bounds.setSize(idleFrame.getRegionWidth() * scale, idleFrame.getRegionHeight() * scale);
+    }
+
     public void drawDebug(ShapeRenderer shapeRenderer) {
         if (!GameConfig.DEBUG_DRAW_BOXES || shapeRenderer == null) return;
         if (bounds != null) { // Safety check
@@ -141,6 +185,15 @@ public abstract class Character {
         return stateComponent != null ? stateComponent.getCurrentState() : State.IDLE;
     }
 
+    // Overrides from assets/archetypes.txt, applied after construction; missing keys keep the class defaults
+    public void applyStats(ObjectMap<String, Float> stats) {
+        if (stats == null || healthComponent == null) return; // Safety check
+        if (stats.containsKey("health")) {
+            healthComponent.setMaxHealth(stats.get("health").intValue());
+            healthComponent.reset();
+        }
+    }
+
     public boolean isAlive() {
         return healthComponent != null && healthComponent.isAlive();
     }
@@ -4,7 +4,10 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.has.mt.AssetLoader;
 import com.has.mt.GameConfig;
 import com.has.mt.GameLogicException; // Import GameLogicException if needed for error handling
+import com.badlogic.gdx.utils.ObjectMap;
+import com.has.mt.ai.BasicChaseAI;
 import com.has.mt.ai.EnemyAI;
+import com.has.mt.components.HealthBarComponent;
 import com.has.mt.interfaces.GameExceptionMessages; // Import messages
 
 public abstract class Enemy extends Character {
@@ -17,6 +20,7 @@ public abstract class Enemy extends Character {
     protected float attackCooldownDuration = GameConfig.ENEMY_ATTACK_COOLDOWN;
     protected boolean canAttack = true;
     protected Character target; // Usually the player
+    public HealthBarComponent healthBarComponent = new HealthBarComponent(GameConfig.ENEMY_HEALTH_BAR_WIDTH, GameConfig.ENEMY_HEALTH_BAR_HEIGHT);
 
     private boolean killProcessed = false;
     // --- CHANGE START: Flag to track damage dealt per attack instance ---
@@ -130,6 +134,24 @@ public abstract class Enemy extends Character {
         }
     }
     public EnemyAI getAI() { return ai; }
+    public void setAI(EnemyAI ai) {
+        this.ai = ai;
+        if (ai != null && target != null) ai.setTarget(target);
+    }
+
+    @Override
+    public void applyStats(ObjectMap<String, Float> stats) {
+        super.applyStats(stats);
+        if (stats == null) return;
+        if (stats.containsKey("damage")) attackDamage = stats.get("damage").intValue();
+        if (stats.containsKey("detect")) detectRange = stats.get("detect");
+        if (stats.containsKey("range")) attackRange = stats.get("range");
+        if (stats.containsKey("cooldown")) attackCooldownDuration = stats.get("cooldown");
+        if (ai instanceof BasicChaseAI) {
+            if (stats.containsKey("walk")) ((BasicChaseAI) ai).moveSpeed = stats.get("walk");
+            if (stats.containsKey("run")) ((BasicChaseAI) ai).runSpeed = stats.get("run");
+        }
+    }
     public Character getTarget() { return target; }
     public float getDetectRange() { return detectRange; }
     public float getAttackRange() { return attackRange; }
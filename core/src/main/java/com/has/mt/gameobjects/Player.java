@@ -3,6 +3,7 @@ package com.has.mt.gameobjects;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.has.mt.AssetLoader;
 import com.has.mt.GameConfig;
 import com.has.mt.GameLogicException;
@@ -259,6 +260,14 @@ public abstract class Player extends Character {
     }
     // --- CHANGE END ---
 
+    @Override
+    public void applyStats(ObjectMap<String, Float> stats) {
+        super.applyStats(stats);
+        if (stats == null) return;
+        if (stats.containsKey("walk")) moveSpeed = stats.get("walk");
+        if (stats.containsKey("run")) runSpeed = stats.get("run");
+    }
+
     public void reset(float x, float y) {
         if (position != null) position.set(x, y);
         if (velocity != null) velocity.set(0, 0);
@@ -13,6 +13,8 @@ import com.has.mt.GameConfig;
 import com.has.mt.GameLogicException; // Import
 import com.has.mt.interfaces.GameExceptionMessages; // Import
 import com.has.mt.utils.AnimationLoader;
+import com.has.mt.utils.CameraCuller;
+import com.has.mt.utils.SpriteRenderQueue;
 
 public class Projectile implements Disposable {
     public Vector2 position;
@@ -89,6 +91,20 @@ public class Projectile implements Disposable {
         batch.draw(currentFrame, position.x, position.y, frameWidth, frameHeight);
     }
 
+    // Culled render path: bounds are sized once in the constructor and moved in update()
+    public void render(SpriteBatch batch, CameraCuller culler) {
+        if (culler != null && !culler.isVisible(bounds)) return;
+        render(batch);
+    }
+
+    public void submit(SpriteRenderQueue queue, CameraCuller culler) {
+        if (!active || animation == null || queue == null) return;
+        if (culler != null && !culler.isVisible(bounds)) return;
+        TextureRegion currentFrame = animation.getKeyFrame(stateTime);
+        if (currentFrame == null) return;
+        queue.add(currentFrame, position.x, position.y, currentFrame.getRegionWidth() * scale, currentFrame.getRegionHeight() * scale, false);
+    }
+
     public boolean isActive() {
         return active;
     }
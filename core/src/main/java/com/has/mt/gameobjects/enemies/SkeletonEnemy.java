@@ -15,11 +15,6 @@ import com.has.mt.interfaces.GameExceptionMessages;
 
 public class SkeletonEnemy extends Enemy {
 
-    private static final int SKELETON_HEALTH = 75;
-    private static final int SKELETON_DAMAGE = 12;
-    private static final float SKELETON_DETECT_RANGE = 450f;
-    private static final float SKELETON_ATTACK_RANGE = 90f;
-    private static final float SKELETON_COOLDOWN = 1.6f;
     private static final float SKELETON_SCALE_MOD = 1.0f;
 
     private boolean hasAttack2 = false;
@@ -29,12 +24,7 @@ public class SkeletonEnemy extends Enemy {
     public SkeletonEnemy(AssetLoader assetLoader, float x, float y) {
         super(assetLoader, x, y, GameConfig.ENEMY_SCALE * SKELETON_SCALE_MOD);
 
-        this.healthComponent.setMaxHealth(SKELETON_HEALTH);
-        this.healthComponent.reset();
-        this.attackDamage = SKELETON_DAMAGE;
-        this.detectRange = SKELETON_DETECT_RANGE;
-        this.attackRange = SKELETON_ATTACK_RANGE;
-        this.attackCooldownDuration = SKELETON_COOLDOWN;
+        // Health and combat stats come from assets/archetypes.txt
         this.ai = new BasicChaseAI(this);
 
         if (this.animationComponent == null) {
@@ -56,24 +46,24 @@ public class SkeletonEnemy extends Enemy {
     @Override
     protected void setupAnimations() {
         // Frame counts VERIFIED from asset list
-        animationComponent.addAnimation(State.IDLE, AssetLoader.SKELETON_IDLE_PATH, 7, 1, 0.18f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, AssetLoader.SKELETON_WALK_PATH, 7, 1, 0.12f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.SKELETON_RUN_PATH, 8, 1, 0.10f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.ATTACK1, AssetLoader.SKELETON_ATTACK1_PATH, 5, 1, 0.10f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, AssetLoader.SKELETON_HURT_PATH, 2, 1, 0.15f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.SKELETON_DEAD_PATH, 4, 1, 0.15f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.IDLE, AssetLoader.SKELETON_IDLE_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.SKELETON_WALK_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.SKELETON_RUN_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.ATTACK1, AssetLoader.SKELETON_ATTACK1_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.SKELETON_HURT_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.SKELETON_DEAD_PATH, PlayMode.NORMAL);
 
         // Conditionally load other attacks
-        if (Gdx.files.internal(AssetLoader.SKELETON_ATTACK2_PATH).exists()) {
-            animationComponent.addAnimation(State.ATTACK2, AssetLoader.SKELETON_ATTACK2_PATH, 6, 1, 0.09f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.SKELETON_ATTACK2_PATH)) {
+            animationComponent.addAnimation(State.ATTACK2, AssetLoader.SKELETON_ATTACK2_PATH, PlayMode.NORMAL);
             hasAttack2 = true;
         }
-        if (Gdx.files.internal(AssetLoader.SKELETON_ATTACK3_PATH).exists()) {
-            animationComponent.addAnimation(State.ATTACK3, AssetLoader.SKELETON_ATTACK3_PATH, 4, 1, 0.11f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.SKELETON_ATTACK3_PATH)) {
+            animationComponent.addAnimation(State.ATTACK3, AssetLoader.SKELETON_ATTACK3_PATH, PlayMode.NORMAL);
             hasAttack3 = true;
         }
-        if (Gdx.files.internal(AssetLoader.SKELETON_PROTECT_PATH).exists()) {
-            animationComponent.addAnimation(State.DEFEND, AssetLoader.SKELETON_PROTECT_PATH, 1, 1, 0.15f, PlayMode.LOOP);
+        if (assetLoader.manifest.contains(AssetLoader.SKELETON_PROTECT_PATH)) {
+            animationComponent.addAnimation(State.DEFEND, AssetLoader.SKELETON_PROTECT_PATH, PlayMode.LOOP);
         }
 
 
@@ -21,12 +21,7 @@ public class SlimeEnemy extends Enemy {
         super(assetLoader, x, y, GameConfig.ENEMY_SCALE * 0.8f);
         this.slimeColor = color;
 
-        this.healthComponent.setMaxHealth(50);
-        this.healthComponent.reset();
-        this.attackDamage = 8;
-        this.detectRange = 350f;
-        this.attackRange = 60f;
-        this.attackCooldownDuration = 1.8f;
+        // Health and combat stats come from assets/archetypes.txt
         this.ai = new BasicChaseAI(this);
 
         if (this.animationComponent == null) {
@@ -41,7 +36,7 @@ public class SlimeEnemy extends Enemy {
     protected void setupAnimations() {
         String basePath = "Enemy/SlimeEnemy/" + slimeColor + "_Slime/";
         String idlePath = basePath + "Idle.png";
-        String walkPath = slimeColor.equals("Blue") ? basePath + "walk.png" : basePath + "Walk.png";
+        String walkPath = basePath + "Walk.png";
         String runPath = basePath + "Run.png";
         String jumpPath = basePath + "Jump.png";
         String attack1Path = basePath + "Attack_1.png";
@@ -50,24 +45,24 @@ public class SlimeEnemy extends Enemy {
         String hurtPath = basePath + "Hurt.png";
         String deadPath = basePath + "Dead.png";
 
-        // --- Frame counts VERIFIED from asset list ---
-        animationComponent.addAnimation(State.IDLE, idlePath, 8, 1, 0.15f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, walkPath, 8, 1, 0.12f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, runPath, 7, 1, 0.1f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.ATTACK1, attack1Path, 4, 1, 0.12f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, hurtPath, 6, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, deadPath, 3, 1, 0.15f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.JUMP, jumpPath, 13, 1, 0.1f, PlayMode.NORMAL);
+        // Frame counts and durations come from assets/sheets.txt
+        animationComponent.addAnimation(State.IDLE, idlePath, PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, walkPath, PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, runPath, PlayMode.LOOP);
+        animationComponent.addAnimation(State.ATTACK1, attack1Path, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, hurtPath, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, deadPath, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.JUMP, jumpPath, PlayMode.NORMAL);
 
         // Conditionally load and track other attacks
-        if (Gdx.files.internal(attack2Path).exists()) {
-            animationComponent.addAnimation(State.ATTACK2, attack2Path, 4, 1, 0.12f, PlayMode.NORMAL); // 4 frames?
+        if (assetLoader.manifest.contains(attack2Path)) {
+            animationComponent.addAnimation(State.ATTACK2, attack2Path, PlayMode.NORMAL);
             hasAttack2 = true;
         } else {
             Gdx.app.log("SlimeEnemy", "Attack 2 animation not found for " + slimeColor + ": " + attack2Path);
         }
-        if (Gdx.files.internal(attack3Path).exists()) {
-            animationComponent.addAnimation(State.ATTACK3, attack3Path, 5, 1, 0.12f, PlayMode.NORMAL); // 5 frames?
+        if (assetLoader.manifest.contains(attack3Path)) {
+            animationComponent.addAnimation(State.ATTACK3, attack3Path, PlayMode.NORMAL);
             hasAttack3 = true;
         } else {
             Gdx.app.log("SlimeEnemy", "Attack 3 animation not found for " + slimeColor + ": " + attack3Path);
@@ -61,22 +61,22 @@ public class FireWizardPlayer extends Player {
     protected void setupAnimations() {
         Gdx.app.log("FireWizardPlayer", "Setting up Fire Wizard animations...");
         // Standard animations
-        animationComponent.addAnimation(State.IDLE, AssetLoader.FIRE_WIZARD_IDLE_PATH, 7, 1, 0.15f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, AssetLoader.FIRE_WIZARD_WALK_PATH, 6, 1, 0.1f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.FIRE_WIZARD_RUN_PATH, 8, 1, 0.08f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.FIRE_WIZARD_JUMP_PATH, 9, 1, 0.15f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, AssetLoader.FIRE_WIZARD_HURT_PATH, 3, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.FIRE_WIZARD_DEAD_PATH, 7, 1, 0.15f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.IDLE, AssetLoader.FIRE_WIZARD_IDLE_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.FIRE_WIZARD_WALK_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.FIRE_WIZARD_RUN_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.FIRE_WIZARD_JUMP_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.FIRE_WIZARD_HURT_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.FIRE_WIZARD_DEAD_PATH, PlayMode.NORMAL);
 
         // Melee attacks
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.FIRE_WIZARD_ATTACK1_PATH, 4, 1, 0.08f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.FIRE_WIZARD_ATTACK2_PATH, 4, 1, 0.09f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.FIRE_WIZARD_ATTACK1_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.FIRE_WIZARD_ATTACK2_PATH, PlayMode.NORMAL);
 
         // --- CHANGE START: Map CAST states to corresponding animations ---
         // CHARGED state uses Charge.png animation
         // VERIFY frame count (6?) and duration (0.1f?)
-        if (Gdx.files.internal(AssetLoader.FIRE_WIZARD_CHARGE_PATH).exists()) {
-            animationComponent.addAnimation(State.CHARGED, AssetLoader.FIRE_WIZARD_CHARGE_PATH, 6, 1, 0.1f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.FIRE_WIZARD_CHARGE_PATH)) {
+            animationComponent.addAnimation(State.CHARGED, AssetLoader.FIRE_WIZARD_CHARGE_PATH, PlayMode.NORMAL);
             Gdx.app.log("FireWizardPlayer", "Mapped CHARGED state to Charge animation.");
         } else {
             Gdx.app.error("FireWizardPlayer", "Charge animation not found at " + AssetLoader.FIRE_WIZARD_CHARGE_PATH + "! Linking CHARGED to IDLE.");
@@ -85,8 +85,8 @@ public class FireWizardPlayer extends Player {
 
         // FIREBALL_CAST state uses Fireball.png animation
         // VERIFY frame count (12?) and duration (0.1f?)
-        if (Gdx.files.internal(AssetLoader.FIRE_WIZARD_FIREBALL_PATH).exists()) {
-            animationComponent.addAnimation(State.FIREBALL_CAST, AssetLoader.FIRE_WIZARD_FIREBALL_PATH, 12, 1, 0.1f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.FIRE_WIZARD_FIREBALL_PATH)) {
+            animationComponent.addAnimation(State.FIREBALL_CAST, AssetLoader.FIRE_WIZARD_FIREBALL_PATH, PlayMode.NORMAL);
             Gdx.app.log("FireWizardPlayer", "Mapped FIREBALL_CAST state to Fireball animation.");
         } else {
             Gdx.app.error("FireWizardPlayer", "Fireball animation not found at " + AssetLoader.FIRE_WIZARD_FIREBALL_PATH + "! Linking FIREBALL_CAST to IDLE.");
@@ -95,8 +95,8 @@ public class FireWizardPlayer extends Player {
 
         // FLAME_JET_CAST state uses Flame_jet.png animation
         // VERIFY frame count (14?) and duration (0.08f?)
-        if (Gdx.files.internal(AssetLoader.FIRE_WIZARD_FLAME_JET_PATH).exists()) {
-            animationComponent.addAnimation(State.FLAME_JET_CAST, AssetLoader.FIRE_WIZARD_FLAME_JET_PATH, 14, 1, 0.08f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.FIRE_WIZARD_FLAME_JET_PATH)) {
+            animationComponent.addAnimation(State.FLAME_JET_CAST, AssetLoader.FIRE_WIZARD_FLAME_JET_PATH, PlayMode.NORMAL);
             Gdx.app.log("FireWizardPlayer", "Mapped FLAME_JET_CAST state to Flame_jet animation.");
         } else {
             Gdx.app.error("FireWizardPlayer", "Flame_jet animation not found at " + AssetLoader.FIRE_WIZARD_FLAME_JET_PATH + "! Linking FLAME_JET_CAST to IDLE.");
@@ -26,16 +26,16 @@ public class KnightPlayer extends Player {
     @Override
     protected void setupAnimations() {
         Gdx.app.log("KnightPlayer", "Setting up Knight_1 animations...");
-        animationComponent.addAnimation(State.IDLE, AssetLoader.KNIGHT_IDLE_PATH, 4, 1, 0.15f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, AssetLoader.KNIGHT_WALK_PATH, 8, 1, 0.1f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.KNIGHT_RUN_PATH, 7, 1, 0.08f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.KNIGHT_JUMP_PATH, 6, 1, 0.15f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.KNIGHT_ATTACK1_PATH, 5, 1, 0.1f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.KNIGHT_ATTACK2_PATH, 4, 1, 0.1f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.ATTACK3, AssetLoader.KNIGHT_ATTACK3_PATH, 4, 1, 0.1f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, AssetLoader.KNIGHT_HURT_PATH, 2, 1, 0.1f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.KNIGHT_DEAD_PATH, 6, 1, 0.15f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEFEND, AssetLoader.KNIGHT_DEFEND_PATH, 5, 1, 0.1f, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.IDLE, AssetLoader.KNIGHT_IDLE_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.KNIGHT_WALK_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.KNIGHT_RUN_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.KNIGHT_JUMP_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.KNIGHT_ATTACK1_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.KNIGHT_ATTACK2_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.ATTACK3, AssetLoader.KNIGHT_ATTACK3_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.KNIGHT_HURT_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.KNIGHT_DEAD_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEFEND, AssetLoader.KNIGHT_DEFEND_PATH, Animation.PlayMode.LOOP);
 
         if (animationComponent.hasAnimationForState(State.JUMP)) {
             animationComponent.linkStateAnimation(State.FALL, State.JUMP);
@@ -44,16 +44,16 @@ public class LightningMagePlayer extends Player {
     @Override
     protected void setupAnimations() {
         Gdx.app.log("LightningMagePlayer", "Setting up Lightning Mage animations...");
-        animationComponent.addAnimation(State.IDLE, AssetLoader.MAGE_IDLE_PATH, 7, 1, 0.15f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, AssetLoader.MAGE_WALK_PATH, 7, 1, 0.1f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.MAGE_RUN_PATH, 8, 1, 0.1f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.MAGE_JUMP_PATH, 8, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.MAGE_LIGHT_ATTACK_PATH, 10, 1, 0.08f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.MAGE_HEAVY_ATTACK_PATH, 4, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.CHARGED, AssetLoader.MAGE_CHARGED_PATH, 7, 1, 0.1f, PlayMode.NORMAL); // LM_Chargeball.png
-        animationComponent.addAnimation(State.VADERSTRIKE, AssetLoader.MAGE_VADER_STRIKE_PATH, 13, 1, 0.09f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, AssetLoader.MAGE_HURT_PATH, 3, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.MAGE_DEAD_PATH, 5, 1, 0.15f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.IDLE, AssetLoader.MAGE_IDLE_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.MAGE_WALK_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.MAGE_RUN_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.MAGE_JUMP_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.MAGE_LIGHT_ATTACK_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.MAGE_HEAVY_ATTACK_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.CHARGED, AssetLoader.MAGE_CHARGED_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.VADERSTRIKE, AssetLoader.MAGE_VADER_STRIKE_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.MAGE_HURT_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.MAGE_DEAD_PATH, PlayMode.NORMAL);
 
         // Link LIGHTNING_BALL_CAST back to IDLE for a quick transition
         if (animationComponent.hasAnimationForState(State.IDLE)) {
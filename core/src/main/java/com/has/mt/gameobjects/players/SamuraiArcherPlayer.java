@@ -46,16 +46,16 @@ public class SamuraiArcherPlayer extends Player {
     protected void setupAnimations() {
         Gdx.app.log("SamuraiArcherPlayer", "Setting up Samurai Archer animations...");
         // VERIFY Frame counts!
-        animationComponent.addAnimation(State.IDLE, AssetLoader.SAMURAI_ARCHER_IDLE_PATH, 9, 1, 0.15f, Animation.PlayMode.LOOP); // 9 frames?
-        animationComponent.addAnimation(State.WALK, AssetLoader.SAMURAI_ARCHER_WALK_PATH, 8, 1, 0.1f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.SAMURAI_ARCHER_RUN_PATH, 8, 1, 0.08f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.SAMURAI_ARCHER_JUMP_PATH, 9, 1, 0.15f, Animation.PlayMode.NORMAL); // 9 frames?
-        animationComponent.addAnimation(State.HURT, AssetLoader.SAMURAI_ARCHER_HURT_PATH, 3, 1, 0.1f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.SAMURAI_ARCHER_DEAD_PATH, 5, 1, 0.15f, Animation.PlayMode.NORMAL); // 5 frames?
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.SAMURAI_ARCHER_ATTACK1_PATH, 5, 1, 0.09f, Animation.PlayMode.NORMAL); // 5 frames?
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.SAMURAI_ARCHER_ATTACK2_PATH, 5, 1, 0.1f, Animation.PlayMode.NORMAL); // 5 frames?
-        animationComponent.addAnimation(State.ATTACK3, AssetLoader.SAMURAI_ARCHER_ATTACK3_PATH, 6, 1, 0.1f, Animation.PlayMode.NORMAL); // 6 frames?
-        animationComponent.addAnimation(State.ARROW_SHOT, AssetLoader.SAMURAI_ARCHER_SHOT_PATH, 14, 1, 0.07f, Animation.PlayMode.NORMAL); // 14 frames?
+        animationComponent.addAnimation(State.IDLE, AssetLoader.SAMURAI_ARCHER_IDLE_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.SAMURAI_ARCHER_WALK_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.SAMURAI_ARCHER_RUN_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.SAMURAI_ARCHER_JUMP_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.SAMURAI_ARCHER_HURT_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.SAMURAI_ARCHER_DEAD_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.SAMURAI_ARCHER_ATTACK1_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.SAMURAI_ARCHER_ATTACK2_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.ATTACK3, AssetLoader.SAMURAI_ARCHER_ATTACK3_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.ARROW_SHOT, AssetLoader.SAMURAI_ARCHER_SHOT_PATH, Animation.PlayMode.NORMAL);
 
         if (animationComponent.hasAnimationForState(State.JUMP)) {
             animationComponent.linkStateAnimation(State.FALL, State.JUMP);
@@ -27,16 +27,16 @@ public class SamuraiCommanderPlayer extends Player {
     protected void setupAnimations() {
         Gdx.app.log("SamuraiCommanderPlayer", "Setting up Samurai Commander animations...");
         // VERIFY Frame counts!
-        animationComponent.addAnimation(State.IDLE, AssetLoader.SAMURAI_COMMANDER_IDLE_PATH, 5, 1, 0.15f, Animation.PlayMode.LOOP); // 5 frames?
-        animationComponent.addAnimation(State.WALK, AssetLoader.SAMURAI_COMMANDER_WALK_PATH, 9, 1, 0.1f, Animation.PlayMode.LOOP); // 9 frames?
-        animationComponent.addAnimation(State.RUN, AssetLoader.SAMURAI_COMMANDER_RUN_PATH, 8, 1, 0.08f, Animation.PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.SAMURAI_COMMANDER_JUMP_PATH, 7, 1, 0.15f, Animation.PlayMode.NORMAL); // 7 frames?
-        animationComponent.addAnimation(State.HURT, AssetLoader.SAMURAI_COMMANDER_HURT_PATH, 2, 1, 0.1f, Animation.PlayMode.NORMAL); // 2 frames?
-        animationComponent.addAnimation(State.DEAD, AssetLoader.SAMURAI_COMMANDER_DEAD_PATH, 6, 1, 0.15f, Animation.PlayMode.NORMAL); // 6 frames?
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.SAMURAI_COMMANDER_ATTACK1_PATH, 4, 1, 0.09f, Animation.PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.SAMURAI_COMMANDER_ATTACK2_PATH, 5, 1, 0.11f, Animation.PlayMode.NORMAL); // 5 frames?
-        animationComponent.addAnimation(State.ATTACK3, AssetLoader.SAMURAI_COMMANDER_ATTACK3_PATH, 4, 1, 0.1f, Animation.PlayMode.NORMAL); // 4 frames?
-        animationComponent.addAnimation(State.DEFEND, AssetLoader.SAMURAI_COMMANDER_PROTECT_PATH, 2, 1, 0.2f, Animation.PlayMode.LOOP); // 2 frames?
+        animationComponent.addAnimation(State.IDLE, AssetLoader.SAMURAI_COMMANDER_IDLE_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.SAMURAI_COMMANDER_WALK_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.SAMURAI_COMMANDER_RUN_PATH, Animation.PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.SAMURAI_COMMANDER_JUMP_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.SAMURAI_COMMANDER_HURT_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.SAMURAI_COMMANDER_DEAD_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.SAMURAI_COMMANDER_ATTACK1_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.SAMURAI_COMMANDER_ATTACK2_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.ATTACK3, AssetLoader.SAMURAI_COMMANDER_ATTACK3_PATH, Animation.PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEFEND, AssetLoader.SAMURAI_COMMANDER_PROTECT_PATH, Animation.PlayMode.LOOP);
 
         if (animationComponent.hasAnimationForState(State.JUMP)) {
             animationComponent.linkStateAnimation(State.FALL, State.JUMP);
@@ -60,29 +60,29 @@ public class WandererMagePlayer extends Player {
     protected void setupAnimations() {
         Gdx.app.log("WandererMagePlayer", "Setting up Wanderer Mage animations...");
         // Standard animations
-        animationComponent.addAnimation(State.IDLE, AssetLoader.WANDERER_MAGE_IDLE_PATH, 8, 1, 0.15f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.WALK, AssetLoader.WANDERER_MAGE_WALK_PATH, 7, 1, 0.1f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.RUN, AssetLoader.WANDERER_MAGE_RUN_PATH, 8, 1, 0.08f, PlayMode.LOOP);
-        animationComponent.addAnimation(State.JUMP, AssetLoader.WANDERER_MAGE_JUMP_PATH, 8, 1, 0.15f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HURT, AssetLoader.WANDERER_MAGE_HURT_PATH, 4, 1, 0.1f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.DEAD, AssetLoader.WANDERER_MAGE_DEAD_PATH, 4, 1, 0.15f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.IDLE, AssetLoader.WANDERER_MAGE_IDLE_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.WALK, AssetLoader.WANDERER_MAGE_WALK_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.RUN, AssetLoader.WANDERER_MAGE_RUN_PATH, PlayMode.LOOP);
+        animationComponent.addAnimation(State.JUMP, AssetLoader.WANDERER_MAGE_JUMP_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HURT, AssetLoader.WANDERER_MAGE_HURT_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.DEAD, AssetLoader.WANDERER_MAGE_DEAD_PATH, PlayMode.NORMAL);
 
         // Melee attacks
-        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.WANDERER_MAGE_ATTACK1_PATH, 7, 1, 0.08f, PlayMode.NORMAL);
-        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.WANDERER_MAGE_ATTACK2_PATH, 9, 1, 0.09f, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.LIGHT_ATTACK, AssetLoader.WANDERER_MAGE_ATTACK1_PATH, PlayMode.NORMAL);
+        animationComponent.addAnimation(State.HEAVY_ATTACK, AssetLoader.WANDERER_MAGE_ATTACK2_PATH, PlayMode.NORMAL);
 
         // Load CAST animations (Magic_arrow.png and Magic_sphere.png)
-        if (Gdx.files.internal(AssetLoader.WANDERER_MAGE_MAGIC_ARROW_PATH).exists()) {
-            animationComponent.addAnimation(State.MAGIC_ARROW_CAST, AssetLoader.WANDERER_MAGE_MAGIC_ARROW_PATH, 6, 1, 0.1f, PlayMode.NORMAL);
+        if (assetLoader.manifest.contains(AssetLoader.WANDERER_MAGE_MAGIC_ARROW_PATH)) {
+            animationComponent.addAnimation(State.MAGIC_ARROW_CAST, AssetLoader.WANDERER_MAGE_MAGIC_ARROW_PATH, PlayMode.NORMAL);
             Gdx.app.log("WandererMagePlayer", "Mapped MAGIC_ARROW_CAST state (V Key) to Magic_arrow animation.");
         } else {
             Gdx.app.error("WandererMagePlayer", "Magic_arrow animation not found! Linking MAGIC_ARROW_CAST to IDLE.");
             animationComponent.linkStateAnimation(State.MAGIC_ARROW_CAST, State.IDLE);
         }
         // MAGIC_SPHERE_CAST state (E Key) uses Magic_sphere.png animation
-        if (Gdx.files.internal(AssetLoader.WANDERER_MAGE_MAGIC_SPHERE_PATH).exists()) {
+        if (assetLoader.manifest.contains(AssetLoader.WANDERER_MAGE_MAGIC_SPHERE_PATH)) {
             // Adjusted frame count based on user feedback in previous message
-            animationComponent.addAnimation(State.MAGIC_SPHERE_CAST, AssetLoader.WANDERER_MAGE_MAGIC_SPHERE_PATH, 16, 1, 0.12f, PlayMode.NORMAL); // Was 16, correcting to 8 based on asset list
+            animationComponent.addAnimation(State.MAGIC_SPHERE_CAST, AssetLoader.WANDERER_MAGE_MAGIC_SPHERE_PATH, PlayMode.NORMAL);
             Gdx.app.log("WandererMagePlayer", "Mapped MAGIC_SPHERE_CAST state (E Key) to Magic_sphere animation.");
         } else {
             Gdx.app.error("WandererMagePlayer", "Magic_sphere animation not found! Linking MAGIC_SPHERE_CAST to IDLE.");
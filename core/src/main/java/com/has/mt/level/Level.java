@@ -2,7 +2,10 @@
 package com.has.mt.level;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.has.mt.AssetLoader;
@@ -17,9 +20,22 @@ public class Level implements Disposable {
     private LevelData levelData;
     private ParallaxBackground background;
     private FloorLayer floor;
+    private SpriteCache staticCache; // Prebuilt background + floor geometry (null = draw through the batch)
+    private boolean loaded = false; // All loadStep() work done
+    private LevelAssets assets; // Textures this level holds; released on dispose()
+    private boolean assetsReady = false;
     // private TilemapCollision collisionMap;
 
     public Level(AssetLoader assetLoader, LevelData data) {
+        this(assetLoader, data, false);
+    }
+
+    /**
+     * With staged set, only the level data is bound here; the level's textures, background
+     * layers, floor tile and static cache are loaded by repeated loadStep() calls, one piece
+     * of work per call.
+     */
+    public Level(AssetLoader assetLoader, LevelData data, boolean staged) {
         Gdx.app.log("Level", "Creating Level: " + (data != null ? data.levelName : "Unnamed"));
         if (data == null) {
             Gdx.app.error("Level", "LevelData provided was null!");
@@ -28,27 +44,115 @@ public class Level implements Disposable {
             this.levelData = data;
         }
         this.assetLoader = assetLoader;
+        if (staged) return;
 
+        finishLoadingAssets();
+        this.background = new ParallaxBackground(assetLoader, assets.backgroundLayerPaths, false);
         try {
-            // --- FIX: Call ParallaxBackground with ONLY 3 arguments ---
-            this.background = new ParallaxBackground(
-                assetLoader,
-                this.levelData.backgroundTheme,
-                this.levelData.backgroundVariant
-                // REMOVED: , this.levelData.backgroundLayers
-            );
-            // ----------------------------------------------------------
             this.floor = new FloorLayer(assetLoader, this.levelData.floorTileIndex);
         } catch (Exception e) {
-            Gdx.app.error("Level", "Error creating background/floor", e);
-            if (this.background == null) {
-                // --- FIX: Call default ParallaxBackground with ONLY 3 arguments ---
-                this.background = new ParallaxBackground(assetLoader, null, 0); // Example default
-                // REMOVED: , null
-                // ----------------------------------------------------------
+            Gdx.app.error("Level", "Error creating floor", e);
+            this.floor = new FloorLayer(assetLoader, 0);
+        }
+
+        buildStaticCache();
+        loaded = true;
+    }
+
+    // Does the next piece of staged loading. Returns true once the level is ready to render.
+    public boolean loadStep() {
+        if (loaded) return true;
+        if (assets == null) {
+            acquireAssets();
+            return false;
+        }
+        if (!assetsReady) {
+            // Loaded by the per-frame AssetManager update in MyGdxGame; this only checks on it
+            assetsReady = assets.getLoadedFraction(assetLoader) >= 1f;
+            return false;
+        }
+        if (background == null) {
+            background = new ParallaxBackground(assetLoader, assets.backgroundLayerPaths, true);
+            return false;
+        }
+        if (background.loadNextLayer()) return false; // One layer wrapped, more to go
+        if (floor == null) {
+            try {
+                floor = new FloorLayer(assetLoader, levelData.floorTileIndex);
+            } catch (Exception e) {
+                Gdx.app.error("Level", "Error creating floor", e);
+                floor = new FloorLayer(assetLoader, 0);
             }
-            if (this.floor == null) this.floor = new FloorLayer(assetLoader, 0);
+            return false;
         }
+        buildStaticCache();
+        loaded = true;
+        return true;
+    }
+
+    // Blocking version of loadStep()'s asset stage, for callers that need the level right away
+    public void finishLoadingAssets() {
+        if (assetsReady) return;
+        if (assets == null) acquireAssets();
+        assetLoader.finishLoadingAssets(assets.texturePaths);
+        assetLoader.finishLoadingAssets(assets.pixmapPaths);
+        assetsReady = true;
+    }
+
+    // Only what this level uses; assets shared with the previous level are already loaded
+    private void acquireAssets() {
+        assets = LevelAssets.forLevel(levelData, assetLoader);
+        int queued = assetLoader.acquireLevelTextures(assets.texturePaths) + assetLoader.acquireLevelPixmaps(assets.pixmapPaths);
+        Gdx.app.log("Level", "Queued " + queued + " of " + (assets.texturePaths.size + assets.pixmapPaths.size) + " level assets.");
+    }
+
+    // Rough 0..1 progress of staged loading, for loading indicators
+    public float getLoadProgress() {
+        if (loaded) return 1f;
+        if (assets == null) return 0f;
+        if (!assetsReady) return 0.8f * assets.getLoadedFraction(assetLoader);
+        if (background == null) return 0.8f;
+        if (floor == null) return 0.8f + 0.1f * background.getLoadProgress();
+        return 0.95f;
+    }
+
+    // Assets acquired but not all resident yet
+    public boolean isWaitingForAssets() {
+        return assets != null && !assetsReady;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // The background and floor never change after load, so upload their quads once
+    // and only move them with a transform each frame instead of re-filling the batch.
+    private void buildStaticCache() {
+        int quadCount = (background != null ? background.getLayerCount() : 0) + (floor != null ? floor.getCacheQuadCount() : 0);
+        try {
+            staticCache = new SpriteCache(quadCount, false);
+            if (background != null) background.buildCache(staticCache);
+            if (floor != null) floor.buildCache(staticCache);
+            Gdx.app.log("Level", "Static geometry cached (" + quadCount + " quads max).");
+        } catch (Exception e) {
+            Gdx.app.error("Level", "Failed to build static SpriteCache, falling back to batch rendering", e);
+            if (staticCache != null) staticCache.dispose();
+            staticCache = null;
+            if (background != null) background.clearCache();
+            if (floor != null) floor.clearCache();
+        }
+    }
+
+    // Draws the cached background and floor. Must be called outside SpriteBatch begin/end.
+    public void renderStaticLayers(Matrix4 projection, float cameraX) {
+        if (staticCache == null || projection == null) return; // Safety check
+        staticCache.setProjectionMatrix(projection);
+        // SpriteCache.begin() does not touch blending, layers need alpha
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        if (background != null) background.renderCached(staticCache, cameraX);
+        if (floor != null) floor.renderCached(staticCache, cameraX);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
     }
 
     public void update(float delta, float cameraX) {
@@ -56,13 +160,13 @@ public class Level implements Disposable {
     }
 
     public void renderBackground(SpriteBatch batch, float cameraX) {
-        if (background != null) {
+        if (background != null && !background.isCached()) {
             background.render(batch, cameraX);
         }
     }
 
     public void renderFloor(SpriteBatch batch, float cameraX) {
-        if (floor != null) {
+        if (floor != null && !floor.isCached()) {
             floor.render(batch, cameraX);
         }
     }
@@ -84,7 +188,19 @@ public class Level implements Disposable {
         Gdx.app.log("Level", "Disposing Level: " + (levelData != null ? levelData.levelName : "Unnamed"));
         if (background != null) background.dispose();
         if (floor != null) floor.dispose();
+        if (staticCache != null) staticCache.dispose();
+        staticCache = null;
         background = null;
         floor = null;
+        if (assets != null) {
+            assetLoader.releaseLevelAssets(assets.texturePaths);
+            assetLoader.releaseLevelAssets(assets.pixmapPaths);
+            assets = null;
+        }
+    }
+
+    // Null until staged loading has started
+    public LevelAssets getAssets() {
+        return assets;
     }
 }
@@ -0,0 +1,62 @@
+package com.has.mt.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.has.mt.AssetLoader;
+import com.has.mt.gameobjects.ArchetypeRegistry;
+import com.has.mt.level.background.ParallaxBackground;
+
+/**
+ * What a level depends on, derived from its LevelData: the enemy types its spawn points use
+ * (random spawns pick from the same types), their sprite sheets, the background layers and
+ * the floor sheet. Everything is loaded through the AssetManager and held by the Level while
+ * it exists, so a level can be prepared in the background and shares what it has in common
+ * with the previous one.
+ */
+public class LevelAssets {
+
+    public final Array<String> enemyTypes = new Array<>();
+    public final Array<String> texturePaths = new Array<>(); // Enemy sheets and background layers
+    public final Array<String> backgroundLayerPaths = new Array<>(); // Subset of texturePaths, in draw order
+    public final Array<String> pixmapPaths = new Array<>(); // Read on the CPU (floor tiles are cut from these)
+
+    public static LevelAssets forLevel(LevelData data, AssetLoader assetLoader) {
+        LevelAssets assets = new LevelAssets();
+        if (data == null || assetLoader == null) return assets; // Safety check
+
+        if (data.spawnPoints != null) {
+            for (SpawnPoint sp : data.spawnPoints) {
+                if (sp == null || sp.type == null || sp.type.trim().isEmpty()) continue;
+                String type = sp.type.trim().toLowerCase(); // Same normalisation as EnemyManager
+                if (!assets.enemyTypes.contains(type, false)) assets.enemyTypes.add(type);
+            }
+        }
+        if (assets.enemyTypes.size == 0) {
+            // Random spawns without spawn points pick from every enemy archetype (see EnemyManager)
+            for (ArchetypeRegistry.Archetype archetype : assetLoader.archetypes.getEnemies()) assets.enemyTypes.add(archetype.name);
+        }
+
+        for (String type : assets.enemyTypes) {
+            ArchetypeRegistry.Archetype archetype = assetLoader.archetypes.get(type);
+            if (archetype == null || archetype.sheets.size == 0) {
+                Gdx.app.error("LevelAssets", "No sprite sheets in the asset manifest for enemy type: " + type);
+                continue;
+            }
+            assets.texturePaths.addAll(archetype.sheets);
+        }
+        assets.backgroundLayerPaths.addAll(ParallaxBackground.layerFiles(assetLoader.manifest, data.backgroundTheme, data.backgroundVariant));
+        assets.texturePaths.addAll(assets.backgroundLayerPaths);
+        assets.pixmapPaths.add(AssetLoader.FLOOR_TEXTURE_SHEET); // One sheet, floorTileIndex picks the tile
+
+        Gdx.app.log("LevelAssets", "Level '" + data.levelName + "' needs " + assets.texturePaths.size + " textures for enemy types " + assets.enemyTypes);
+        return assets;
+    }
+
+    // Fraction of the set that is loaded
+    public float getLoadedFraction(AssetLoader assetLoader) {
+        float textures = assetLoader.getLoadedFraction(texturePaths);
+        float pixmaps = assetLoader.getLoadedFraction(pixmapPaths);
+        int total = texturePaths.size + pixmapPaths.size;
+        return total == 0 ? 1f : (textures * texturePaths.size + pixmaps * pixmapPaths.size) / total;
+    }
+}
@@ -7,6 +7,7 @@ import com.has.mt.AssetLoader;
 import com.has.mt.managers.EnemyManager;
 import com.has.mt.gameobjects.Player;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
 import com.has.mt.GameConfig;
 import com.badlogic.gdx.math.MathUtils; // For randomizing spawns later if needed
 import com.has.mt.GameLogicException; // Import exceptions
@@ -18,8 +19,13 @@ public class LevelManager implements Disposable {
     private AssetLoader assetLoader;
     private Array<LevelData> availableLevels;
     private Level currentLevel;
+    private Level pendingLevel; // Level being loaded in steps, swapped in by finishLevelLoad()
+    private int pendingLevelIndex = -1;
     private int currentLevelIndex = -1;
     private Player playerRef;
+    private boolean waitingLogged = false; // Reached the transition point before the next level was ready
+    private boolean endReachedLogged = false;
+    private int failedLevelIndex = -1; // Not prefetched again automatically after its load failed
     private EnemyManager enemyManagerRef;
 
 
@@ -79,6 +85,24 @@ public class LevelManager implements Disposable {
     }
 
     public boolean loadLevel(int index, Player player, EnemyManager enemyManager) {
+        if (!beginLevelLoad(index, player, enemyManager)) return false;
+        try {
+            // Outside the per-frame upload budget, the remaining steps don't wait on the AssetManager
+            if (pendingLevel != null) pendingLevel.finishLoadingAssets();
+        } catch (Exception e) {
+            Gdx.app.error("LevelManager", "Error while loading assets for level " + index, e);
+            pendingLevel.dispose();
+            pendingLevel = null;
+        }
+        while (!stepLevelLoad()) { } // Do all the staged work now
+        return finishLevelLoad();
+    }
+
+    /**
+     * Starts loading a level without decoding anything yet. Call stepLevelLoad() (for example
+     * once per frame within a time budget) until it returns true, then finishLevelLoad().
+     */
+    public boolean beginLevelLoad(int index, Player player, EnemyManager enemyManager) {
         this.playerRef = player;
         this.enemyManagerRef = enemyManager;
 
@@ -92,11 +116,17 @@ public class LevelManager implements Disposable {
         }
 
         Gdx.app.log("LevelManager", "Loading level " + index + "...");
+        return prefetchLevel(index);
+    }
 
-        if (currentLevel != null) {
-            currentLevel.dispose();
-            currentLevel = null;
-        }
+    /**
+     * Starts preparing a level in the background without touching the current one. Its assets
+     * load through the AssetManager while stepLevelLoad() is called; a later beginLevelLoad()
+     * or loadLevel() for the same index picks up where it got to.
+     */
+    public boolean prefetchLevel(int index) {
+        if (index < 0 || index >= availableLevels.size) return false; // Safety check
+        if (pendingLevel != null && pendingLevelIndex == index) return true; // Already on its way
 
         LevelData data = availableLevels.get(index);
         if (data == null) {
@@ -104,25 +134,72 @@ public class LevelManager implements Disposable {
             return false;
         }
 
+        if (pendingLevel != null) {
+            pendingLevel.dispose();
+            pendingLevel = null;
+        }
         try {
-            currentLevel = new Level(assetLoader, data);
+            pendingLevel = new Level(assetLoader, data, true);
         } catch (Exception e) {
             Gdx.app.error("LevelManager", "Failed to create Level object for index " + index, e);
-            currentLevel = null;
+            pendingLevel = null;
+            failedLevelIndex = index;
             return false;
         }
+        pendingLevelIndex = index;
+        return true;
+    }
 
-        currentLevelIndex = index;
+    // Runs one piece of the pending level's loading. Returns true when it is ready (or there is none).
+    public boolean stepLevelLoad() {
+        if (pendingLevel == null) return true;
+        try {
+            return pendingLevel.loadStep();
+        } catch (Exception e) {
+            Gdx.app.error("LevelManager", "Error while loading level " + pendingLevelIndex, e);
+            failedLevelIndex = pendingLevelIndex;
+            pendingLevel.dispose();
+            pendingLevel = null;
+            return true; // finishLevelLoad() reports the failure
+        }
+    }
+
+    // True while the pending level only waits for the AssetManager, so stepping it again does nothing
+    public boolean isWaitingForLevelAssets() {
+        return pendingLevel != null && pendingLevel.isWaitingForAssets();
+    }
+
+    public float getLevelLoadProgress() {
+        return pendingLevel != null ? pendingLevel.getLoadProgress() : 1f;
+    }
+
+    // Swaps the loaded level in, repositions the player and spawns the level's enemies
+    public boolean finishLevelLoad() {
+        if (pendingLevel == null || !pendingLevel.isLoaded()) {
+            Gdx.app.error("LevelManager", "No loaded level to switch to (index " + pendingLevelIndex + ")");
+            return false;
+        }
+        if (currentLevel != null) {
+            currentLevel.dispose();
+        }
+        currentLevel = pendingLevel;
+        currentLevelIndex = pendingLevelIndex;
+        pendingLevel = null;
+        waitingLogged = false;
+        endReachedLogged = false;
+        failedLevelIndex = -1;
+        int index = currentLevelIndex;
+        LevelData data = currentLevel.getLevelData();
 
         if (data.playerStartPos != null) {
-            player.reset(data.playerStartPos.x, data.playerStartPos.y);
+            playerRef.reset(data.playerStartPos.x, data.playerStartPos.y);
         } else {
             // --- CHANGE: Replace warn with log ---
             Gdx.app.log("LevelManager", "No playerStartPos defined for level " + index + ". Player not repositioned.");
             // --- END CHANGE ---
         }
 
-        enemyManager.spawnEnemiesForLevel(currentLevel);
+        enemyManagerRef.spawnEnemiesForLevel(currentLevel);
 
         Gdx.app.log("LevelManager", "Level '" + data.levelName + "' (Index: " + index + ") loaded successfully.");
         return true;
@@ -143,12 +220,31 @@ public class LevelManager implements Disposable {
             currentLevel.update(delta, cameraX);
             LevelData data = currentLevel.getLevelData();
             if (playerRef != null && data != null && data.levelWidth > 0) {
+                int nextIndex = currentLevelIndex + 1;
+                boolean hasNext = nextIndex < availableLevels.size;
+                // Start loading the next level while this one is still being played
+                boolean nextFailed = nextIndex == failedLevelIndex;
+                if (hasNext && !nextFailed && pendingLevel == null && playerRef.position.x > data.levelWidth * GameConfig.LEVEL_PREFETCH_PROGRESS) {
+                    if (prefetchLevel(nextIndex)) Gdx.app.log("LevelManager", "Prefetching level " + nextIndex + " in the background.");
+                }
+                if (pendingLevel != null && pendingLevelIndex == nextIndex) stepLevelLoad(); // One step per frame
+
                 float transitionPoint = data.levelWidth - GameConfig.V_WIDTH * 0.2f;
                 if (playerRef.position.x > transitionPoint) {
-                    if (loadNextLevel()) {
-                        Gdx.app.log("LevelManager", "Transitioned to next level.");
-                    } else {
-                        Gdx.app.log("LevelManager", "Reached end of final level.");
+                    if (!hasNext) {
+                        if (!endReachedLogged) Gdx.app.log("LevelManager", "Reached end of final level.");
+                        endReachedLogged = true;
+                    } else if (pendingLevel != null && pendingLevel.isLoaded()) {
+                        if (finishLevelLoad()) Gdx.app.log("LevelManager", "Transitioned to next level.");
+                    } else if (pendingLevel == null && !nextFailed) {
+                        prefetchLevel(nextIndex); // Never started
+                    } else if (nextFailed) {
+                        if (!waitingLogged) Gdx.app.error("LevelManager", "Level " + nextIndex + " failed to load, staying on this level.");
+                        waitingLogged = true;
+                    } else if (!waitingLogged) {
+                        // Keep playing; the swap happens on the frame the level is ready
+                        Gdx.app.log("LevelManager", "Next level not ready yet (" + (int) (getLevelLoadProgress() * 100) + "%), waiting.");
+                        waitingLogged = true;
                     }
                 }
             }
@@ -161,6 +257,13 @@ public class LevelManager implements Disposable {
         }
     }
 
+    // Cached background/floor pass, call before the world SpriteBatch begins
+    public void renderStaticLayers(Matrix4 projection, float cameraX) {
+        if (currentLevel != null) {
+            currentLevel.renderStaticLayers(projection, cameraX);
+        }
+    }
+
     public void renderFloor(SpriteBatch batch, float cameraX) {
         if (currentLevel != null) {
             currentLevel.renderFloor(batch, cameraX);
@@ -182,6 +285,10 @@ public class LevelManager implements Disposable {
             currentLevel.dispose();
             currentLevel = null;
         }
+        if (pendingLevel != null) {
+            pendingLevel.dispose();
+            pendingLevel = null;
+        }
         if (availableLevels != null) {
             availableLevels.clear();
         }
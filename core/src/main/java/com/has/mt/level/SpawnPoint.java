@@ -1,10 +1,13 @@
 // src/com/has/mt/level/SpawnPoint.java
 package com.has.mt.level;
 
+import com.has.mt.gameobjects.ArchetypeRegistry;
+
 // Simple data class for enemy spawn points
 public class SpawnPoint {
     public float x, y;
     public String type; // Enemy type string (e.g., "blue_slime")
+    public int typeId = ArchetypeRegistry.INVALID_ID; // Resolved from type on first spawn
 
     public SpawnPoint(float x, float y, String type) {
         this.x = x;
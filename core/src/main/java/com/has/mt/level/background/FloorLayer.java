@@ -7,6 +7,8 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException; // Import exception
 import com.has.mt.AssetLoader;
@@ -22,8 +24,10 @@ public class FloorLayer implements Disposable {
     private int tileHeight = 16;
     private float scale = GameConfig.FLOOR_TILE_SCALE;
     private float parallaxFactor = GameConfig.FLOOR_PARALLAX_FACTOR;
-    private Texture fullSheetTexture; // Reference to the sheet from AssetLoader
+    private Pixmap sheetPixmap; // Decoded floor sheet from the AssetLoader (not owned)
     private int currentTileIndex = -1;
+    private int cacheId = -1; // Prebuilt floor strips in the level's SpriteCache (-1 = not cached)
+    private final Matrix4 cacheTransform = new Matrix4();
 
     // --- REMOVED loadedDirectly flag ---
 
@@ -34,9 +38,9 @@ public class FloorLayer implements Disposable {
         }
 
         try {
-            // Get the pre-loaded texture sheet from the AssetLoader
-            this.fullSheetTexture = assetLoader.get(AssetLoader.FLOOR_TEXTURE_SHEET, Texture.class);
-            if (this.fullSheetTexture == null) { // Should be caught by assetLoader.get() throwing an exception
+            // Get the pre-loaded sheet pixels from the AssetLoader (part of the level's asset set)
+            this.sheetPixmap = assetLoader.get(AssetLoader.FLOOR_TEXTURE_SHEET, Pixmap.class);
+            if (this.sheetPixmap == null) { // Should be caught by assetLoader.get() throwing an exception
                 throw new GameLogicException(GameExceptionMessages.ASSET_LOAD_FAILED, AssetLoader.FLOOR_TEXTURE_SHEET + " (result was null)");
             }
             setFloorTileIndex(tileIndex); // Extract the specific tile
@@ -46,7 +50,7 @@ public class FloorLayer implements Disposable {
             // Ensure resources are null if init fails
             if (tileTexture != null) tileTexture.dispose();
             tileTexture = null;
-            fullSheetTexture = null; // Don't hold reference if failed
+            sheetPixmap = null; // Don't hold reference if failed
             // Re-throw as a runtime exception if floor is critical
             throw new GameLogicException("FloorLayer initialization failed", e);
         }
@@ -65,23 +69,16 @@ public class FloorLayer implements Disposable {
         }
         currentTileIndex = -1; // Reset current index
 
-        if (fullSheetTexture == null) {
-            Gdx.app.error("FloorLayer", "Cannot set tile index, full sheet texture is null.");
+        if (sheetPixmap == null) {
+            Gdx.app.error("FloorLayer", "Cannot set tile index, floor sheet pixmap is null.");
             return;
         }
 
-        Pixmap sheetPixmap = null;
         Pixmap tilePixmap = null;
         try {
-            // Ensure texture data is prepared and get Pixmap
-            if (!fullSheetTexture.getTextureData().isPrepared()) {
-                fullSheetTexture.getTextureData().prepare();
-            }
-            sheetPixmap = fullSheetTexture.getTextureData().consumePixmap();
-
             // Calculate source coordinates (assuming 16x16 tiles, row 8)
             // TODO: Make tile size and source row configurable if needed
-            int tilesPerRow = fullSheetTexture.getWidth() / tileWidth;
+            int tilesPerRow = sheetPixmap.getWidth() / tileWidth;
             int srcX = (tileIndex % tilesPerRow) * tileWidth;
             int srcY = 8 * tileHeight; // Hardcoded row 8 (index 8 from top)
 
@@ -112,18 +109,8 @@ public class FloorLayer implements Disposable {
             currentTileIndex = -1;
             // Optional: throw exception?
         } finally {
-            // Dispose pixmaps if they were created
+            // Only the tile copy is ours; the sheet pixmap belongs to the AssetManager
             if (tilePixmap != null) tilePixmap.dispose();
-            // IMPORTANT: DO NOT dispose the sheetPixmap here if you got it via consumePixmap()
-            // unless you are absolutely done with the original TextureData. Re-prepare if needed.
-            // If you got it via getPixmap(), you would dispose it. Since we used consume, manage carefully.
-            // For simplicity here, we assume consumePixmap gives us control and we dispose the tilePixmap.
-            // If issues arise, revisit TextureData management.
-            if (sheetPixmap != null && fullSheetTexture.getTextureData().disposePixmap()) {
-                // Check if the texture data owns the pixmap and dispose it if necessary
-                // This might be needed if consumePixmap doesn't transfer ownership fully or for cleanup.
-                // sheetPixmap.dispose(); // Careful with this, might invalidate original texture.
-            }
         }
     }
 
@@ -151,75 +138,68 @@ public class FloorLayer implements Disposable {
             float currentStripHeight = Math.min(scaledTileHeight, groundY - drawY);
             if (currentStripHeight <= 0) continue; // Skip if height is zero or negative
 
-            // Calculate texture coordinates (u, v)
-            // u/u2 define the horizontal part of the texture to draw (repeats)
-            // v/v2 define the vertical part (clamps at the top edge)
-            float u1 = uOffset;
-            float u2 = uOffset + (viewportWidth / scaledTileWidth);
-            float v1 = 0f; // Top of the texture region (corresponds to bottom of tile image)
-            // v2 needs to be adjusted based on the strip height relative to the full tile height
-            float v2 = currentStripHeight / scaledTileHeight;
-
-            // Draw the texture strip
-            // Arguments: texture, x, y, width, height, u, v, u2, v2
-            // Note the v/v2 inversion: LibGDX Y-down texture coords vs Y-up world coords
-            batch.draw(tileTexture,
-                drawStartX, drawY,               // Position (bottom-left corner)
-                viewportWidth, currentStripHeight, // Size of the strip to draw
-                u1, v2,                         // Texture coords (bottom-left) -> (u1, 1 - v1 adjusted for strip)
-                u2, v1);                        // Texture coords (top-right) -> (u2, 1 - v2 adjusted for strip)
-            // Correction: LibGDX draw uses u,v bottom-left, u2,v2 top-right.
-            // V coordinates range from 0 (top) to 1 (bottom) in the texture file.
-            // We want to draw from y=0 up to y=currentStripHeight.
-            // So, v should be 0 (top of texture), and v2 should represent the bottom edge of the strip.
-            // Let's verify the draw method documentation again.
-            // draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2)
-            // Draws a rectangle with the texture coordinates specified. The coordinates are relative to the texture size.
-            // u,v top-left, u2,v2 bottom-right? NO, documentation says: u,v top-left, u2, v2 bottom right OF THE REGION.
-            // Let's rethink the vertical tiling. We draw strips from bottom up.
-            // For a strip at drawY, height currentStripHeight:
-            // We want the *bottom* part of the texture for strips near y=0, and the *top* part for strips near groundY.
-            // Let's assume the tile texture itself represents the full height (16px).
-            // If drawing a full height strip (currentStripHeight == scaledTileHeight): v1=0, v2=1.
-            // If drawing a partial strip at the top (e.g., groundY is not multiple of scaledTileHeight):
-            // The last strip has height currentStripHeight. We need the top 'currentStripHeight/scaledTileHeight' fraction of the texture.
-            // So, for the LAST strip: v1=0, v2 = currentStripHeight/scaledTileHeight.
-            // For strips BELOW the top: v1=0, v2=1? No, that stretches.
-            // OK, let's simplify. Tile the full height texture repeatedly.
-            // The `batch.draw` call handles clipping the texture coords correctly if we provide the region to sample.
-            // u1, v1 = top-left tex coord; u2, v2 = bottom-right tex coord.
-            // For horizontal repeat: u1 = offset, u2 = offset + width_ratio
-            // For vertical clamp (drawing bottom part first): v1 = 0 (top of texture), v2 = 1 (bottom of texture) - should be correct.
-            // Let's retry the original draw call logic, it might be correct.
-            // batch.draw(tileTexture, drawStartX, drawY, viewportWidth, currentStripHeight, u1, v2, u2, v1); // Original trial - seems wrong v/v2 swap
-            // Trying standard u/v mapping:
-            // batch.draw(tileTexture, drawStartX, drawY, viewportWidth, currentStripHeight, u1, 1f, u2, 0f); // Draws full texture stretched? No.
-            // Let's use the draw call specifying source coords:
-            // draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY)
-            // This seems too complex for simple tiling.
-
-            // Back to the region draw call: draw(Texture region, float x, float y, float width, float height) - draws the whole texture.
-            // draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2)
-            // Let's assume: u,v = bottom-left texture coord; u2,v2 = top-right texture coord.
-            // Texture coords Y=0 is TOP of image, Y=1 is BOTTOM.
-            // To draw a strip of height `currentStripHeight` starting at `drawY`:
-            // The texture part needed is from V = 1 - (currentStripHeight / scaledTileHeight) to V = 1.
-            // Let's try v = 1 - (currentStripHeight / scaledTileHeight) and v2 = 1.
-
-            float v_bottom = 1.0f; // Bottom of texture
-            float v_top = 0.0f;    // Top of texture
+            // Texture coords: u repeats horizontally, v is flipped (1 at the bottom edge)
+            // so the full tile height is drawn into each strip.
             float u_left = uOffset;
             float u_right = uOffset + (viewportWidth / scaledTileWidth);
-            // Draw the region specified by u/v coordinates
-            batch.draw(tileTexture, drawStartX, drawY, viewportWidth, currentStripHeight, u_left, v_bottom, u_right, v_top);
-            // This draws the full vertical range of the texture scaled into currentStripHeight. Correct for repeating floor pattern.
+            batch.draw(tileTexture, drawStartX, drawY, viewportWidth, currentStripHeight, u_left, 1f, u_right, 0f);
+        }
+
+        batch.setColor(oldColor); // Restore original batch color
+    }
+
 
+    // Adds the floor strips to the cache once. The strips are one tile wider than the
+    // viewport so renderCached() only has to translate them to scroll.
+    public void buildCache(SpriteCache cache) {
+        if (tileTexture == null || cache == null) return;
+        float scaledTileWidth = tileWidth * scale;
+        float scaledTileHeight = tileHeight * scale;
+        int stripWidth = (int) Math.ceil(GameConfig.V_WIDTH + scaledTileWidth);
+        float u2 = stripWidth / scaledTileWidth;
+
+        cache.beginCache();
+        for (float drawY = 0; drawY < GameConfig.GROUND_Y; drawY += scaledTileHeight) {
+            int stripHeight = (int) Math.min(scaledTileHeight, GameConfig.GROUND_Y - drawY);
+            if (stripHeight <= 0) continue;
+            cache.add(tileTexture, 0, drawY, stripWidth, stripHeight, 0f, 1f, u2, 0f, Color.WHITE_FLOAT_BITS);
+        }
+        cacheId = cache.endCache();
+    }
 
+    // Quads buildCache() adds: one strip per tile row below GROUND_Y
+    public int getCacheQuadCount() {
+        if (tileTexture == null) return 0;
+        float scaledTileHeight = tileHeight * scale;
+        int count = 0;
+        for (float drawY = 0; drawY < GameConfig.GROUND_Y; drawY += scaledTileHeight) {
+            if ((int) Math.min(scaledTileHeight, GameConfig.GROUND_Y - drawY) > 0) count++;
         }
+        return count;
+    }
 
-        batch.setColor(oldColor); // Restore original batch color
+    public boolean isCached() {
+        return cacheId >= 0;
     }
 
+    public void clearCache() {
+        cacheId = -1;
+    }
+
+    // Draws the cached strips; the projection matrix must already be set on the cache.
+    public void renderCached(SpriteCache cache, float cameraX) {
+        if (cacheId < 0 || cache == null) return;
+        float scaledTileWidth = tileWidth * scale;
+        float uOffset = (cameraX * parallaxFactor) / scaledTileWidth;
+        // Shift left by the fractional tile so the repeating pattern lines up with render()
+        float offsetX = cameraX - GameConfig.V_WIDTH / 2f - (uOffset - (float) Math.floor(uOffset)) * scaledTileWidth;
+
+        cacheTransform.setToTranslation(offsetX, 0, 0);
+        cache.setTransformMatrix(cacheTransform);
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+    }
 
     @Override
     public void dispose() {
@@ -228,8 +208,9 @@ public class FloorLayer implements Disposable {
             tileTexture.dispose(); // Dispose the extracted tile texture
             tileTexture = null;
         }
-        // The fullSheetTexture is managed by AssetLoader, DO NOT dispose here.
-        fullSheetTexture = null; // Release reference
+        // The sheet pixmap is managed by AssetLoader, DO NOT dispose here.
+        sheetPixmap = null; // Release reference
         currentTileIndex = -1;
+        cacheId = -1; // Cache itself is owned by the Level
     }
 }
@@ -6,39 +6,38 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color; // Import Color
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.has.mt.AssetLoader; // AssetLoader still needed? Only if fallback/shared assets used. Remove if not.
+import com.has.mt.AssetManifest;
 import com.has.mt.GameConfig;
 
 import java.util.Comparator;
 
 public class ParallaxBackground implements Disposable {
 
-    // Inner Layer class modified to handle own texture
+    // One scrolling layer; its texture is shared through the AssetManager
     private static class Layer implements Disposable {
-        Texture texture; // Layer owns its texture now
+        Texture texture; // Not owned, see dispose()
         float factorX, factorY, scale = 1.0f;
         boolean repeatX, repeatY;
+        int cacheId = -1; // Quad for this layer in the level's SpriteCache (-1 = not cached)
 
-        public Layer(FileHandle textureFile, float factorX, float factorY, boolean repeatX, boolean repeatY) {
+        // The texture is shared through the AssetManager; the level holds its reference
+        public Layer(Texture texture, float factorX, float factorY, boolean repeatX, boolean repeatY) {
             this.factorX = factorX;
             this.factorY = factorY;
             this.repeatX = repeatX;
             this.repeatY = repeatY;
-            try {
-                this.texture = new Texture(textureFile); // Load texture directly
-                Gdx.app.log("ParallaxBackground$Layer", "Loaded texture: " + textureFile.path());
-                this.texture.setWrap(
-                    repeatX ? Texture.TextureWrap.Repeat : Texture.TextureWrap.ClampToEdge,
-                    repeatY ? Texture.TextureWrap.Repeat : Texture.TextureWrap.ClampToEdge
-                );
-                if (this.texture.getHeight() > 0) {
-                    this.scale = GameConfig.V_HEIGHT / this.texture.getHeight();
-                }
-            } catch (Exception e) {
-                Gdx.app.error("ParallaxBackground$Layer", "Failed to load texture: " + textureFile.path(), e);
-                this.texture = null; // Ensure texture is null on failure
+            this.texture = texture;
+            this.texture.setWrap(
+                repeatX ? Texture.TextureWrap.Repeat : Texture.TextureWrap.ClampToEdge,
+                repeatY ? Texture.TextureWrap.Repeat : Texture.TextureWrap.ClampToEdge
+            );
+            if (this.texture.getHeight() > 0) {
+                this.scale = GameConfig.V_HEIGHT / this.texture.getHeight();
             }
         }
 
@@ -59,85 +58,186 @@ public class ParallaxBackground implements Disposable {
             batch.draw(texture, layerX, 0, drawWidth, drawHeight, u, v2, u2, v);
         }
 
+        // Repeating layers get a quad one texture-width wider than the viewport so that
+        // scrolling is just a translation; fixed layers keep the stretched full-texture quad.
+        void buildCache(SpriteCache cache) {
+            if (texture == null) return;
+            float layerWidthScaled = texture.getWidth() * scale;
+            cache.beginCache();
+            if (repeatX) {
+                int width = (int) Math.ceil(GameConfig.V_WIDTH + layerWidthScaled);
+                cache.add(texture, 0, 0, width, (int) GameConfig.V_HEIGHT, 0f, 1f, width / layerWidthScaled, 0f, Color.WHITE_FLOAT_BITS);
+            } else {
+                cache.add(texture, 0, 0, (int) GameConfig.V_WIDTH, (int) GameConfig.V_HEIGHT, 0f, 1f, 1f, 0f, Color.WHITE_FLOAT_BITS);
+            }
+            cacheId = cache.endCache();
+        }
+
+        // World X of the cached quad's left edge for the given camera position (matches render())
+        float getCacheOffsetX(float cameraX) {
+            if (repeatX) {
+                float layerWidthScaled = texture.getWidth() * scale;
+                float u = (cameraX * factorX) / layerWidthScaled;
+                return cameraX - GameConfig.V_WIDTH / 2f - (u - (float) Math.floor(u)) * layerWidthScaled;
+            }
+            return cameraX * (1 - factorX) - (GameConfig.V_WIDTH / 2f) * (1 - factorX);
+        }
+
         @Override
         public void dispose() {
-            if (texture != null) {
-                Gdx.app.log("ParallaxBackground$Layer", "Disposing texture");
-                texture.dispose(); // Dispose texture owned by this layer
-            }
+            texture = null; // Not owned, released with the level's asset set
         }
     } // End inner Layer class
 
-    // AssetLoader might not be needed anymore if all textures loaded directly
-    // private AssetLoader assetLoader;
+    // Build-generated downscaled copies, largest first, with their size divisor
+    private static final String[] VARIANT_DIRS = {"half", "quarter"};
+    private static final int[] VARIANT_DIVISORS = {2, 4};
+
+    /**
+     * Picks the smallest generated variant of a layer ("<dir>/half/<name>", "<dir>/quarter/<name>")
+     * whose height still covers the height the world is rendered at. Layers are always drawn
+     * V_HEIGHT tall, so a smaller texture only changes the sampling density, not the layout.
+     * Sizes and variant availability come from the asset manifest when there is one (the lwjgl3
+     * build adds its generated variants to it through backgroundVariants.manifest).
+     */
+    static FileHandle selectVariant(FileHandle file, AssetManifest manifest) {
+        if (!GameConfig.BACKGROUND_VARIANTS || Gdx.graphics == null) return file;
+        AssetManifest.Entry entry = manifest != null ? manifest.get(file.path()) : null;
+        int sourceHeight = entry != null ? entry.height : readPngHeight(file);
+        if (sourceHeight <= 0) return file;
+
+        int targetHeight = Gdx.graphics.getBackBufferHeight();
+        if (GameConfig.LOW_RES_WORLD && !GameConfig.DYNAMIC_RESOLUTION) {
+            targetHeight /= Math.max(1, GameConfig.LOW_RES_WORLD_DIVISOR); // World is drawn into a smaller target
+        }
+        FileHandle chosen = file;
+        for (int i = 0; i < VARIANT_DIRS.length; i++) {
+            if (sourceHeight / VARIANT_DIVISORS[i] < targetHeight) break; // Too small, keep the previous one
+            FileHandle variant = file.parent().child(VARIANT_DIRS[i]).child(file.name());
+            boolean exists = manifest != null ? manifest.contains(variant.path()) : variant.exists();
+            if (!exists) break; // Variants not generated for this layer (or this platform)
+            chosen = variant;
+        }
+        Gdx.app.debug("ParallaxBackground", "Using " + chosen.path() + " for a " + targetHeight + "px tall target"
+            + (chosen == file ? " (no smaller variant covers it)" : ""));
+        return chosen;
+    }
+
+    // Height from the PNG IHDR chunk, without decoding the image. Returns -1 if unreadable.
+    private static int readPngHeight(FileHandle file) {
+        byte[] header = new byte[24];
+        try (java.io.InputStream in = file.read()) {
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n < 0) return -1;
+                read += n;
+            }
+        } catch (Exception e) {
+            Gdx.app.error("ParallaxBackground", "Could not read PNG header: " + file.path(), e);
+            return -1;
+        }
+        return ((header[20] & 0xFF) << 24) | ((header[21] & 0xFF) << 16) | ((header[22] & 0xFF) << 8) | (header[23] & 0xFF);
+    }
+
+    private final AssetLoader assetLoader;
     private Array<Layer> layers;
+    private Array<String> pendingPaths; // Layer textures in draw order not wrapped yet (staged loading)
+    private int pendingIndex = 0;
     private boolean loadedOk = false; // Flag if loading succeeded
+    private boolean cached = false; // Layers prebuilt into a SpriteCache
+    private final Matrix4 cacheTransform = new Matrix4();
 
-    // Constructor simplified - AssetLoader might be removed if not needed elsewhere
-    public ParallaxBackground(AssetLoader assetLoader, String theme, int variant) {
-        // this.assetLoader = assetLoader; // Remove if not needed
-        Gdx.app.log("ParallaxBackground", "Creating background for theme: " + theme + ", variant: " + variant);
+    /**
+     * Builds the background from layer textures that are already loaded through the
+     * AssetManager (see layerFiles() and LevelAssets). With deferLayers the layers are only
+     * recorded; call loadNextLayer() until it returns false.
+     */
+    public ParallaxBackground(AssetLoader assetLoader, Array<String> layerPaths, boolean deferLayers) {
+        this.assetLoader = assetLoader;
+        Gdx.app.log("ParallaxBackground", "Creating background with " + (layerPaths != null ? layerPaths.size : 0) + " layers");
         this.layers = new Array<>();
-        loadLayers(theme, variant);
-    }
-
-    private void loadLayers(String theme, int variant) {
-        loadedOk = false; // Assume failure initially
-        if (theme == null) {
-            Gdx.app.log("ParallaxBackground", "Theme is null, cannot load layers.");
+        if (layerPaths == null || layerPaths.size == 0 || assetLoader == null) {
+            Gdx.app.log("ParallaxBackground", "No layers to load.");
             return;
         }
-        String dirPath = "Backgrounds/" + theme + "/Layered/" + theme.toLowerCase() + " " + variant + "/";
-        Gdx.app.log("ParallaxBackground", "Attempting to load layers from: " + dirPath);
+        this.pendingPaths = layerPaths;
+        if (!deferLayers) {
+            while (loadNextLayer()) { } // Wrap every layer now
+        }
+    }
 
+    /**
+     * Layer files of a theme variant in draw order (back to front), each replaced by its best
+     * downscaled variant. hd.png (the flattened full picture) is not a layer.
+     */
+    public static Array<String> layerFiles(AssetManifest manifest, String theme, int variant) {
+        Array<String> result = new Array<>();
+        if (theme == null || manifest == null) return result; // Safety check
+        String dirPath = layerDirectory(theme, variant);
+        Array<FileHandle> files = new Array<>();
+        for (String path : manifest.list(dirPath, ".png")) {
+            FileHandle file = Gdx.files.internal(path);
+            if (!file.name().equalsIgnoreCase("hd.png")) files.add(file);
+        }
+        if (files.size == 0) {
+            Gdx.app.error("ParallaxBackground", "No layer .png files found in directory: " + dirPath);
+            return result;
+        }
         try {
-            FileHandle dirHandle = Gdx.files.internal(dirPath);
-            if (dirHandle.exists() && dirHandle.isDirectory()) {
-                FileHandle[] files = dirHandle.list(".png");
-                if (files == null || files.length == 0) {
-                    Gdx.app.error("ParallaxBackground", "No .png files found in directory: " + dirPath);
-                    return;
-                }
-
-                Array<FileHandle> sortedFiles = new Array<>(files);
-                try {
-                    // Sort numerically by filename without extension
-                    sortedFiles.sort(Comparator.comparingInt(f -> Integer.parseInt(f.nameWithoutExtension())));
-                } catch (NumberFormatException e) {
-                    Gdx.app.error("ParallaxBackground", "Could not sort files numerically, sorting alphabetically: " + dirPath, e);
-                    sortedFiles.sort(Comparator.comparing(FileHandle::name)); // Fallback sort
-                }
-
-
-                float baseFactor = 0.05f; // Adjust factors as needed
-                float factorIncrement = 0.1f; // Adjust factors as needed
-
-                for (int i = 0; i < sortedFiles.size; i++) {
-                    FileHandle file = sortedFiles.get(i);
-                    if (file.name().equalsIgnoreCase("hd.png")) continue; // Skip hd.png
-
-                    // Load layer directly
-                    float factor = baseFactor + (i * factorIncrement);
-                    Layer layer = new Layer(file, factor, 0f, true, false);
-                    if (layer.texture != null) { // Only add if texture loaded successfully
-                        layers.add(layer);
-                    } else {
-                        Gdx.app.error("ParallaxBackground", "Skipping layer due to texture load failure: " + file.path());
-                    }
-                }
-                if (layers.size > 0) {
-                    loadedOk = true; // Mark as successfully loaded if at least one layer added
-                    Gdx.app.log("ParallaxBackground", "Finished loading " + layers.size + " layers.");
-                } else {
-                    Gdx.app.error("ParallaxBackground", "No layers were successfully loaded from: " + dirPath);
-                }
+            // Sort numerically by filename without extension
+            files.sort(Comparator.comparingInt(f -> Integer.parseInt(f.nameWithoutExtension())));
+        } catch (NumberFormatException e) {
+            Gdx.app.error("ParallaxBackground", "Could not sort files numerically, sorting alphabetically: " + dirPath, e);
+            files.sort(Comparator.comparing(FileHandle::name)); // Fallback sort
+        }
+        for (FileHandle file : files) {
+            result.add(selectVariant(file, manifest).path());
+        }
+        return result;
+    }
 
-            } else {
-                Gdx.app.error("ParallaxBackground", "Directory not found or not a directory: " + dirPath);
+    // Where a theme variant's layer PNGs live, e.g. "Backgrounds/Winter/Layered/winter 1/"
+    public static String layerDirectory(String theme, int variant) {
+        return "Backgrounds/" + theme + "/Layered/" + theme.toLowerCase() + " " + variant + "/";
+    }
+
+    /**
+     * Wraps the next loaded layer texture. Returns true while layers remain, so staged
+     * callers can spread the work over several frames.
+     */
+    public boolean loadNextLayer() {
+        if (pendingPaths == null) return false;
+        float baseFactor = 0.05f; // Adjust factors as needed
+        float factorIncrement = 0.1f; // Adjust factors as needed
+
+        if (pendingIndex < pendingPaths.size) {
+            int i = pendingIndex++;
+            String path = pendingPaths.get(i);
+            float factor = baseFactor + (i * factorIncrement);
+            try {
+                layers.add(new Layer(assetLoader.get(path, Texture.class), factor, 0f, true, false));
+                Gdx.app.log("ParallaxBackground$Layer", "Added layer: " + path);
+            } catch (Exception e) {
+                Gdx.app.error("ParallaxBackground", "Skipping layer due to texture load failure: " + path, e);
             }
-        } catch (Exception e) {
-            Gdx.app.error("ParallaxBackground", "Error accessing/processing directory: " + dirPath, e);
         }
+        if (pendingIndex < pendingPaths.size) return true;
+
+        if (layers.size > 0) {
+            loadedOk = true; // Mark as successfully loaded if at least one layer added
+            Gdx.app.log("ParallaxBackground", "Finished loading " + layers.size + " layers.");
+        } else {
+            Gdx.app.error("ParallaxBackground", "No layers were successfully loaded.");
+        }
+        pendingPaths = null;
+        return false;
+    }
+
+    // Fraction of the listed layer files handled so far (1 when nothing is pending)
+    public float getLoadProgress() {
+        if (pendingPaths == null || pendingPaths.size == 0) return 1f;
+        return pendingIndex / (float) pendingPaths.size;
     }
 
     public void render(SpriteBatch batch, float cameraX) {
@@ -157,14 +257,51 @@ public class ParallaxBackground implements Disposable {
         // ---------------------------------------------------------------
     }
 
+    public void buildCache(SpriteCache cache) {
+        if (!loadedOk || cache == null) return;
+        for (Layer layer : layers) {
+            layer.buildCache(cache);
+        }
+        cached = true;
+        Gdx.app.log("ParallaxBackground", "Cached " + layers.size + " layers.");
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public void clearCache() {
+        cached = false;
+        for (Layer layer : layers) layer.cacheId = -1;
+    }
+
+    public int getLayerCount() {
+        return layers != null ? layers.size : 0;
+    }
+
+    // Draws the cached layers back to front; the projection matrix must already be set on the cache.
+    public void renderCached(SpriteCache cache, float cameraX) {
+        if (!cached || cache == null) return;
+        for (Layer layer : layers) {
+            if (layer.cacheId < 0) continue;
+            cacheTransform.setToTranslation(layer.getCacheOffsetX(cameraX), 0, 0);
+            cache.setTransformMatrix(cacheTransform);
+            cache.begin();
+            cache.draw(layer.cacheId);
+            cache.end();
+        }
+    }
+
     @Override
     public void dispose() {
         Gdx.app.log("ParallaxBackground", "Disposing ParallaxBackground layers");
         if (layers != null) {
             for (Layer layer : layers) {
-                layer.dispose(); // Each layer disposes its own texture
+                layer.dispose();
             }
             layers.clear();
         }
+        pendingPaths = null;
+        cached = false;
     }
 }
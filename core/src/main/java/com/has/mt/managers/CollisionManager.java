@@ -8,12 +8,15 @@ import com.has.mt.gameobjects.Player;
 import com.has.mt.gameobjects.Enemy;
 import com.has.mt.gameobjects.Projectile;
 import com.has.mt.gameobjects.Character;
+import com.has.mt.ui.GameHUD;
 
 public class CollisionManager {
 
     private Player player;
     private EnemyManager enemyManager;
     private ProjectileManager projectileManager;
+    private ParticleManager particleManager; // Optional, null = no hit effects
+    private GameHUD gameHUD; // Optional, null = no damage numbers
 
     public CollisionManager(Player player, EnemyManager enemyManager, ProjectileManager projectileManager) {
         if (player == null) { throw new IllegalArgumentException("Player cannot be null for CollisionManager"); }
@@ -25,6 +28,14 @@ public class CollisionManager {
         this.projectileManager = projectileManager;
     }
 
+    public void setParticleManager(ParticleManager particleManager) {
+        this.particleManager = particleManager;
+    }
+
+    public void setGameHUD(GameHUD gameHUD) {
+        this.gameHUD = gameHUD;
+    }
+
     public void checkCollisions() {
         if (player == null || enemyManager == null || projectileManager == null) return; // Check managers
 
@@ -60,8 +71,9 @@ public class CollisionManager {
                             // TODO: Add player attack hitbox check here instead of just bounds overlap
                             // --- CHANGE START: Check if enemy already hit this attack ---
                             if (!player.hasHitEnemyThisAttack(enemy)) {
-                                enemy.takeDamage(damage);
+                                int dealt = applyDamage(enemy, damage);
                                 player.markEnemyHitThisAttack(enemy); // Mark as hit for this attack sequence
+                                emitHitEffects(playerBounds, enemy, ParticleManager.COLOR_HIT, dealt);
                                 Gdx.app.debug("CollisionManager", "Player (" + pState + ") hit Enemy (" + enemy.getClass().getSimpleName() + ") ONCE. Enemy Health: " + enemy.healthComponent.getCurrentHealth());
                             }
                             // --- CHANGE END ---
@@ -74,7 +86,8 @@ public class CollisionManager {
                 // Check if enemy is in attack state AND hasn't dealt damage in this specific attack instance yet
                 if (enemy.isAttacking() && isMeleeAttackState(eState) && !enemy.hasDealtDamageThisAttack()) {
                     // Player invulnerability is handled within player.takeDamage
-                    player.takeDamage(enemy.getAttackDamage());
+                    int dealt = applyDamage(player, enemy.getAttackDamage());
+                    emitHitEffects(enemyBounds, player, ParticleManager.COLOR_PLAYER_HIT, dealt);
                     // Mark that this enemy attack instance has now dealt its damage
                     enemy.markDamageDealtThisAttack();
                     Gdx.app.debug("CollisionManager", "Enemy (" + enemy.getClass().getSimpleName() + "/" + eState + ") dealt damage to Player. Player Health: " + player.healthComponent.getCurrentHealth());
@@ -108,8 +121,9 @@ public class CollisionManager {
                 if (enemy == null || !enemy.isAlive() || enemy.bounds == null || enemy.healthComponent == null) continue;
 
                 if (Intersector.overlaps(projectileBounds, enemy.bounds)) {
-                    enemy.takeDamage(projectile.getDamage());
+                    int dealt = applyDamage(enemy, projectile.getDamage());
                     projectile.setActive(false); // Deactivate projectile on hit
+                    emitHitEffects(projectileBounds, enemy, ParticleManager.COLOR_SPELL, dealt);
                     Gdx.app.debug("CollisionManager", "Player Projectile hit Enemy (" + enemy.getClass().getSimpleName() + "). Enemy Health: " + enemy.healthComponent.getCurrentHealth());
                     break; // Projectile hits one enemy and is destroyed
                 }
@@ -133,14 +147,42 @@ public class CollisionManager {
             Rectangle projectileBounds = projectile.bounds;
 
             if (Intersector.overlaps(projectileBounds, playerBounds)) {
-                player.takeDamage(projectile.getDamage()); // Player handles invulnerability
+                int dealt = applyDamage(player, projectile.getDamage()); // Player handles invulnerability
                 projectile.setActive(false);
+                emitHitEffects(projectileBounds, player, ParticleManager.COLOR_PLAYER_HIT, dealt);
                 Gdx.app.debug("CollisionManager", "Enemy Projectile hit Player. Player Health: " + player.healthComponent.getCurrentHealth());
             }
         }
     }
 
 
+    // Returns the health actually lost, which defending or invulnerability can reduce (even to 0)
+    private int applyDamage(Character target, int amount) {
+        if (target.healthComponent == null) {
+            target.takeDamage(amount);
+            return 0;
+        }
+        int before = target.healthComponent.getCurrentHealth();
+        target.takeDamage(amount);
+        return before - target.healthComponent.getCurrentHealth();
+    }
+
+    // Damage number above the target, sparks at the middle of the overlap, plus a burst if the hit was fatal
+    private void emitHitEffects(Rectangle attacker, Character target, int rgb, int damage) {
+        if (attacker == null || target == null || target.bounds == null) return;
+        Rectangle b = target.bounds;
+        if (gameHUD != null && damage > 0) {
+            gameHUD.showDamage(b.x + b.width / 2f, b.y + b.height, damage, target == player);
+        }
+        if (particleManager == null) return;
+        float left = Math.max(attacker.x, b.x), right = Math.min(attacker.x + attacker.width, b.x + b.width);
+        float bottom = Math.max(attacker.y, b.y), top = Math.min(attacker.y + attacker.height, b.y + b.height);
+        particleManager.emitHitSparks((left + right) / 2f, (bottom + top) / 2f, GameConfig.HIT_SPARK_COUNT, rgb);
+        if (!target.isAlive()) {
+            particleManager.emitDeathBurst(b.x, b.y, b.width, b.height, GameConfig.DEATH_BURST_COUNT);
+        }
+    }
+
     private boolean isMeleeAttackState(Character.State state) {
         if(state == null) return false;
         // Include all relevant melee states for both player and enemies
@@ -1,27 +1,30 @@
 package com.has.mt.managers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Timer; // Import Timer
 import com.badlogic.gdx.math.MathUtils; // Import MathUtils
 import com.badlogic.gdx.math.Vector2; // Not strictly needed here anymore
-import java.util.Set; // --- CHANGE START: Import Set ---
-import java.util.HashSet; // --- CHANGE START: Import HashSet ---
 import com.has.mt.AssetLoader;
 import com.has.mt.GameConfig;
 import com.has.mt.GameLogicException;
 import com.has.mt.interfaces.GameExceptionMessages;
+import com.has.mt.gameobjects.ArchetypeRegistry;
 import com.has.mt.gameobjects.Character;
 import com.has.mt.gameobjects.Enemy;
-import com.has.mt.gameobjects.enemies.MinotaurEnemy;
-import com.has.mt.gameobjects.enemies.SkeletonEnemy;
-import com.has.mt.gameobjects.enemies.SlimeEnemy;
 import com.has.mt.level.Level;
 import com.has.mt.level.LevelData;
 import com.has.mt.level.SpawnPoint;
+import com.has.mt.utils.CameraCuller;
+import com.has.mt.utils.SpriteRenderQueue;
 
 
 public class EnemyManager implements Disposable {
@@ -37,7 +40,11 @@ public class EnemyManager implements Disposable {
     private static final float SPAWN_DISTANCE_X = GameConfig.V_WIDTH * 0.7f;
     private Timer.Task spawnTask;
     private boolean allowSpawning = false; // Start paused until level loads
-    private Array<String> availableEnemyTypes = new Array<>();
+    private final IntArray availableEnemyTypeIds = new IntArray(); // Archetype ids for random spawns
+
+    // Health bars share one 1x1 white region so they batch with everything else
+    private TextureRegion healthBarRegion;
+    private Texture fallbackBarTexture; // Only created if the UI skin has no "white" region
 
 
     public EnemyManager(AssetLoader assetLoader) {
@@ -92,12 +99,12 @@ public class EnemyManager implements Disposable {
     }
 
     private void spawnRandomEnemyOffScreen() {
-        if (playerTarget == null || playerTarget.position == null || availableEnemyTypes.isEmpty()) {
+        if (playerTarget == null || playerTarget.position == null || availableEnemyTypeIds.isEmpty()) {
             Gdx.app.debug("EnemyManager", "Cannot spawn random enemy, player target missing or no available types.");
             return; // Cannot determine spawn location or type
         }
 
-        String typeToSpawn = availableEnemyTypes.random();
+        int typeToSpawn = availableEnemyTypeIds.random();
         float playerX = playerTarget.position.x;
         float spawnX;
         if (MathUtils.randomBoolean()) { // Spawn right
@@ -108,7 +115,7 @@ public class EnemyManager implements Disposable {
         }
         float spawnY = GameConfig.GROUND_Y;
 
-        Gdx.app.debug("EnemyManager", "Attempting random spawn: " + typeToSpawn + " at X=" + String.format("%.0f", spawnX));
+        Gdx.app.debug("EnemyManager", "Attempting random spawn: " + assetLoader.archetypes.getName(typeToSpawn) + " at X=" + String.format("%.0f", spawnX));
         spawnEnemy(typeToSpawn, spawnX, spawnY); // Use the existing spawn method
     }
 
@@ -141,24 +148,23 @@ public class EnemyManager implements Disposable {
         Gdx.app.log("EnemyManager", "Spawning initial enemies for level: " + levelName);
 
         // Determine available types from level data for random spawning
-        availableEnemyTypes.clear();
-        Set<String> uniqueTypes = new HashSet<>(); // Use imported Set/HashSet
+        availableEnemyTypeIds.clear();
         for (SpawnPoint sp : data.spawnPoints) {
-            if (sp != null && sp.type != null && !sp.type.trim().isEmpty()) {
-                uniqueTypes.add(sp.type.trim().toLowerCase());
+            if (sp == null) continue;
+            if (sp.typeId == ArchetypeRegistry.INVALID_ID) sp.typeId = assetLoader.archetypes.getId(sp.type); // Once per spawn point
+            if (sp.typeId != ArchetypeRegistry.INVALID_ID) {
+                if (!availableEnemyTypeIds.contains(sp.typeId)) availableEnemyTypeIds.add(sp.typeId);
                 // Spawn the predefined enemies
-                spawnEnemy(sp.type, sp.x, sp.y);
+                spawnEnemy(sp.typeId, sp.x, sp.y);
             } else {
-                Gdx.app.log("EnemyManager", "Skipping invalid spawn point in level: " + levelName);
+                Gdx.app.log("EnemyManager", "Skipping invalid spawn point (" + sp.type + ") in level: " + levelName);
             }
         }
-        if(!uniqueTypes.isEmpty()){
-            availableEnemyTypes.addAll(uniqueTypes.toArray(new String[0]));
-        } else {
+        if (availableEnemyTypeIds.isEmpty()) {
             Gdx.app.log("EnemyManager", "No enemy types defined in spawn points for level " + levelName + ". Using defaults."); // Changed warn to log
-            availableEnemyTypes.addAll("blue_slime", "green_slime", "red_slime", "skeleton_warrior", "minotaur_1"); // Fallback
+            for (ArchetypeRegistry.Archetype archetype : assetLoader.archetypes.getEnemies()) availableEnemyTypeIds.add(archetype.id); // Fallback
         }
-        Gdx.app.log("EnemyManager", "Available random spawn types for this level: " + availableEnemyTypes);
+        Gdx.app.log("EnemyManager", "Available random spawn types for this level: " + availableEnemyTypeIds);
 
         Gdx.app.log("EnemyManager", "Finished spawning initial enemies for " + levelName + ". Count: " + activeEnemies.size);
         startSpawning(); // Start continuous spawning for this level
@@ -166,32 +172,28 @@ public class EnemyManager implements Disposable {
 
     // public spawnEnemyAt remains the same...
     public void spawnEnemyAt(String type, float x, float y) {
-        spawnEnemy(type, x, y);
-    }
-
-    private Enemy spawnEnemy(String type, float x, float y) {
-        Enemy enemy = null;
         if (type == null || type.trim().isEmpty()) {
             Gdx.app.error("EnemyManager", "Attempted to spawn enemy with null or empty type.");
-            return null;
+            return;
+        }
+        int typeId = assetLoader.archetypes.getId(type);
+        if (typeId == ArchetypeRegistry.INVALID_ID) {
+            Gdx.app.error("EnemyManager", "Failed to create enemy: " + GameExceptionMessages.INVALID_ENEMY_TYPE + type);
+            return;
         }
-        String lowerCaseType = type.trim().toLowerCase();
+        spawnEnemy(typeId, x, y);
+    }
 
+    // Type ids come from the ArchetypeRegistry; the factory is an array lookup
+    private Enemy spawnEnemy(int typeId, float x, float y) {
+        Enemy enemy = null;
         try {
-            switch (lowerCaseType) {
-                case "blue_slime": enemy = new SlimeEnemy(assetLoader, x, y, "Blue"); break;
-                case "green_slime": enemy = new SlimeEnemy(assetLoader, x, y, "Green"); break;
-                case "red_slime": enemy = new SlimeEnemy(assetLoader, x, y, "Red"); break;
-                case "skeleton_warrior": enemy = new SkeletonEnemy(assetLoader, x, y); break;
-                case "minotaur_1": enemy = new MinotaurEnemy(assetLoader, x, y); break;
-                default:
-                    throw new GameLogicException(GameExceptionMessages.INVALID_ENEMY_TYPE, type);
-            }
+            enemy = assetLoader.archetypes.createEnemy(typeId, assetLoader, x, y);
         } catch (GameLogicException e) {
             Gdx.app.error("EnemyManager", "Failed to create enemy: " + e.getMessage());
             return null;
         } catch (Exception e) {
-            Gdx.app.error("EnemyManager", "Unexpected error creating enemy type: " + type, e);
+            Gdx.app.error("EnemyManager", "Unexpected error creating enemy type: " + assetLoader.archetypes.getName(typeId), e);
             return null;
         }
 
@@ -199,7 +201,7 @@ public class EnemyManager implements Disposable {
             if (playerTarget != null) {
                 enemy.setTarget(playerTarget);
             } else {
-                Gdx.app.log("EnemyManager", "Spawned enemy " + type + " but playerTarget is null.");
+                Gdx.app.log("EnemyManager", "Spawned enemy " + assetLoader.archetypes.getName(typeId) + " but playerTarget is null.");
             }
             activeEnemies.add(enemy);
             // Gdx.app.debug("EnemyManager", "Spawned " + type + " at (" + x + ", " + y + "). Active: " + activeEnemies.size); // Reduce log spam
@@ -245,10 +247,58 @@ public class EnemyManager implements Disposable {
     }
 
     public void render(SpriteBatch batch) {
+        render(batch, null);
+    }
+
+    // Enemies outside the culler's view are skipped (null culler draws everything)
+    public void render(SpriteBatch batch, CameraCuller culler) {
         if (activeEnemies == null) return;
         for (Enemy e : activeEnemies) {
-            if (e != null) e.render(batch);
+            if (e != null) e.render(batch, culler);
+        }
+    }
+
+    public void submit(SpriteRenderQueue queue, CameraCuller culler) {
+        if (activeEnemies == null) return;
+        for (Enemy e : activeEnemies) {
+            if (e != null) e.submit(queue, culler);
+        }
+    }
+
+    // Draws health bars above living, visible enemies. Call inside the world batch pass, after the enemies.
+    public void renderHealthBars(SpriteBatch batch, CameraCuller culler) {
+        if (activeEnemies == null || batch == null) return; // Safety checks
+        TextureRegion region = getHealthBarRegion();
+        if (region == null) return;
+        for (Enemy e : activeEnemies) {
+            if (e == null || !e.isAlive() || e.healthBarComponent == null || e.bounds == null) continue;
+            if (e.bounds.width <= 0) continue; // Not rendered yet, no size to place the bar against
+            if (culler != null && !culler.isVisible(e.bounds)) continue;
+            e.healthBarComponent.render(batch, region, e.healthComponent,
+                e.bounds.x + e.bounds.width / 2f, e.bounds.y + e.bounds.height + GameConfig.ENEMY_HEALTH_BAR_OFFSET_Y);
+        }
+    }
+
+    private TextureRegion getHealthBarRegion() {
+        if (healthBarRegion != null) return healthBarRegion;
+        try {
+            Skin skin = assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
+            if (skin.has("white", TextureRegion.class)) {
+                healthBarRegion = skin.getRegion("white");
+            }
+        } catch (Exception e) {
+            Gdx.app.error("EnemyManager", "UI skin unavailable for health bar region", e);
+        }
+        if (healthBarRegion == null) {
+            Gdx.app.log("EnemyManager", "Creating 1x1 fallback texture for health bars.");
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(1, 1, 1, 1);
+            pixmap.fill();
+            fallbackBarTexture = new Texture(pixmap);
+            pixmap.dispose();
+            healthBarRegion = new TextureRegion(fallbackBarTexture);
         }
+        return healthBarRegion;
     }
 
     public void drawDebug(ShapeRenderer shapeRenderer) {
@@ -278,6 +328,8 @@ public class EnemyManager implements Disposable {
         Gdx.app.log("EnemyManager", "Disposing Enemy Manager.");
         stopSpawning();
         clearEnemies();
+        if (fallbackBarTexture != null) { fallbackBarTexture.dispose(); fallbackBarTexture = null; }
+        healthBarRegion = null; // Skin region is owned by the AssetManager
         Timer.instance().clear(); // Clear any remaining tasks globally (use with caution if other timers exist)
         Gdx.app.log("EnemyManager", "Enemy Manager Dispose finished.");
     }
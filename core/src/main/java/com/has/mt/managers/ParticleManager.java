@@ -0,0 +1,255 @@
+package com.has.mt.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.has.mt.GameConfig;
+import com.has.mt.utils.CameraCuller;
+
+/**
+ * CPU particles for hit sparks, death bursts and ambient weather.
+ * State lives in fixed-capacity primitive arrays (one entry per live particle, packed at the
+ * front), so updating and drawing never allocate. Dead particles are swap-removed. Every
+ * particle uses one small generated texture and is drawn in a single batch call.
+ */
+public class ParticleManager implements Disposable {
+
+    public static final int REGION_DOT = 0;   // Soft round dot (snow, dust)
+    public static final int REGION_SPARK = 1; // Hard square (sparks, debris)
+
+    private static final int SPRITE_SIZE = 20; // SpriteBatch layout: 4 vertices * (x, y, color, u, v)
+    private static final int CELL = 8; // Texel size of each region in the generated texture
+
+    // Spark colors as ABGR without alpha; alpha is added per particle as it fades
+    public static final int COLOR_HIT = rgb(1f, 0.85f, 0.4f);
+    public static final int COLOR_PLAYER_HIT = rgb(0.9f, 0.15f, 0.1f);
+    public static final int COLOR_SPELL = rgb(0.55f, 0.8f, 1f);
+    public static final int COLOR_DEATH = rgb(0.8f, 0.8f, 0.75f);
+    private static final int COLOR_SNOW = rgb(0.95f, 0.97f, 1f);
+
+    private final int capacity;
+    private final float[] x, y, vx, vy, life, maxLife, size, gravity, sway;
+    private final int[] color;
+    private final byte[] region;
+    private int count = 0;
+
+    private final float[] vertices;
+    private final Texture texture;
+    private final TextureRegion[] regions = new TextureRegion[2];
+
+    private String ambientTheme;
+    private float ambientAccumulator = 0f;
+    private float time = 0f;
+
+    public ParticleManager(int capacity) {
+        this.capacity = Math.max(16, capacity);
+        x = new float[this.capacity];
+        y = new float[this.capacity];
+        vx = new float[this.capacity];
+        vy = new float[this.capacity];
+        life = new float[this.capacity];
+        maxLife = new float[this.capacity];
+        size = new float[this.capacity];
+        gravity = new float[this.capacity];
+        sway = new float[this.capacity];
+        color = new int[this.capacity];
+        region = new byte[this.capacity];
+        vertices = new float[this.capacity * SPRITE_SIZE];
+
+        texture = createTexture();
+        regions[REGION_DOT] = new TextureRegion(texture, 0, 0, CELL, CELL);
+        regions[REGION_SPARK] = new TextureRegion(texture, CELL, 0, CELL, CELL);
+        Gdx.app.log("ParticleManager", "Created with capacity " + this.capacity);
+    }
+
+    // One row of CELLxCELL regions: a soft dot and a solid square
+    private static Texture createTexture() {
+        Pixmap pixmap = new Pixmap(CELL * 2, CELL, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        float center = (CELL - 1) / 2f;
+        for (int py = 0; py < CELL; py++) {
+            for (int px = 0; px < CELL; px++) {
+                float dx = px - center, dy = py - center;
+                float alpha = MathUtils.clamp(1f - (float) Math.sqrt(dx * dx + dy * dy) / (CELL / 2f), 0f, 1f);
+                pixmap.drawPixel(px, py, 0xFFFFFF00 | (int) (alpha * 255f));
+                pixmap.drawPixel(CELL + px, py, 0xFFFFFFFF);
+            }
+        }
+        Texture texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pixmap.dispose();
+        return texture;
+    }
+
+    private static int rgb(float r, float g, float b) {
+        return ((int) (255 * b) << 16) | ((int) (255 * g) << 8) | (int) (255 * r);
+    }
+
+    /** Adds one particle. Returns false (and drops it) when the pool is full. */
+    public boolean spawn(float px, float py, float pvx, float pvy, float lifetime, float psize, float pgravity,
+                         float psway, int rgb, int regionId) {
+        if (count >= capacity || lifetime <= 0f) return false;
+        int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        size[i] = psize;
+        gravity[i] = pgravity;
+        sway[i] = psway;
+        color[i] = rgb;
+        region[i] = (byte) regionId;
+        return true;
+    }
+
+    /** Burst of sparks flying out of a hit point. */
+    public void emitHitSparks(float px, float py, int amount, int rgb) {
+        for (int n = 0; n < amount; n++) {
+            float angle = MathUtils.random(MathUtils.PI2);
+            float speed = MathUtils.random(120f, 360f);
+            spawn(px, py, MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed + 80f,
+                MathUtils.random(0.25f, 0.5f), MathUtils.random(4f, 8f), -900f, 0f, rgb, REGION_SPARK);
+        }
+    }
+
+    /** Slower, larger burst filling an area, used when something dies. */
+    public void emitDeathBurst(float left, float bottom, float width, float height, int amount) {
+        for (int n = 0; n < amount; n++) {
+            spawn(left + MathUtils.random(width), bottom + MathUtils.random(height),
+                MathUtils.random(-60f, 60f), MathUtils.random(40f, 160f),
+                MathUtils.random(0.6f, 1.2f), MathUtils.random(6f, 12f), -150f, 20f, COLOR_DEATH, REGION_DOT);
+        }
+    }
+
+    /** Chooses the ambient emitter from a level's background theme; null or an unknown theme stops it. */
+    public void setAmbientTheme(String theme) {
+        if (theme == null ? ambientTheme == null : theme.equals(ambientTheme)) return;
+        Gdx.app.log("ParticleManager", "Ambient theme: " + theme);
+        ambientTheme = theme;
+        ambientAccumulator = 0f;
+    }
+
+    public void update(float delta, float cameraX, float viewWidth, float viewHeight) {
+        time += delta;
+        emitAmbient(delta, cameraX, viewWidth, viewHeight);
+
+        float[] x = this.x, y = this.y, vx = this.vx, vy = this.vy, life = this.life;
+        float swayPhase = time * 2f;
+        int i = 0;
+        while (i < count) {
+            float remaining = life[i] - delta;
+            if (remaining <= 0f) {
+                removeAt(i); // Last particle moves into slot i, process it next
+                continue;
+            }
+            life[i] = remaining;
+            vy[i] += gravity[i] * delta;
+            // maxLife doubles as a stable per-particle sway phase
+            x[i] += (vx[i] + sway[i] * MathUtils.sin(swayPhase + maxLife[i] * 7f)) * delta;
+            y[i] += vy[i] * delta;
+            i++;
+        }
+    }
+
+    private void emitAmbient(float delta, float cameraX, float viewWidth, float viewHeight) {
+        if (!"Winter".equals(ambientTheme)) return;
+        ambientAccumulator += delta * GameConfig.SNOW_PARTICLES_PER_SECOND;
+        float left = cameraX - viewWidth / 2f - GameConfig.CULL_MARGIN;
+        float spanX = viewWidth + GameConfig.CULL_MARGIN * 2f;
+        while (ambientAccumulator >= 1f) {
+            ambientAccumulator -= 1f;
+            float fallSpeed = MathUtils.random(50f, 110f);
+            // Lives just long enough to reach the ground from above the top edge
+            float lifetime = (viewHeight + 20f - GameConfig.GROUND_Y) / fallSpeed;
+            if (!spawn(left + MathUtils.random(spanX), viewHeight + 10f, MathUtils.random(-35f, -10f), -fallSpeed,
+                lifetime, MathUtils.random(3f, 7f), 0f, MathUtils.random(10f, 30f), COLOR_SNOW, REGION_DOT)) {
+                ambientAccumulator = 0f; // Pool full, don't build up a backlog
+                break;
+            }
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        gravity[i] = gravity[last];
+        sway[i] = sway[last];
+        color[i] = color[last];
+        region[i] = region[last];
+    }
+
+    /** Draws every visible particle with one batch call. The batch must be drawing. */
+    public void render(SpriteBatch batch, CameraCuller culler) {
+        if (batch == null || count == 0) return; // Safety check
+        float[] vertices = this.vertices;
+        int idx = 0;
+        for (int i = 0; i < count; i++) {
+            float half = size[i] * 0.5f;
+            float x1 = x[i] - half, y1 = y[i] - half;
+            float x2 = x[i] + half, y2 = y[i] + half;
+            if (culler != null && !culler.isVisible(x1, y1, x2 - x1, y2 - y1)) continue;
+
+            // Fade out over the last half of the lifetime
+            float alpha = Math.min(1f, life[i] / maxLife[i] * 2f);
+            float packed = NumberUtils.intToFloatColor(((int) (alpha * 255f) << 24) | color[i]);
+            TextureRegion r = regions[region[i]];
+            float u = r.getU(), v = r.getV2(), u2 = r.getU2(), v2 = r.getV();
+
+            vertices[idx] = x1;
+            vertices[idx + 1] = y1;
+            vertices[idx + 2] = packed;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v;
+
+            vertices[idx + 5] = x1;
+            vertices[idx + 6] = y2;
+            vertices[idx + 7] = packed;
+            vertices[idx + 8] = u;
+            vertices[idx + 9] = v2;
+
+            vertices[idx + 10] = x2;
+            vertices[idx + 11] = y2;
+            vertices[idx + 12] = packed;
+            vertices[idx + 13] = u2;
+            vertices[idx + 14] = v2;
+
+            vertices[idx + 15] = x2;
+            vertices[idx + 16] = y1;
+            vertices[idx + 17] = packed;
+            vertices[idx + 18] = u2;
+            vertices[idx + 19] = v;
+            idx += SPRITE_SIZE;
+        }
+        if (idx > 0) batch.draw(texture, vertices, 0, idx);
+    }
+
+    public int getParticleCount() {
+        return count;
+    }
+
+    public void clear() {
+        count = 0;
+        ambientAccumulator = 0f;
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("ParticleManager", "Disposing ParticleManager...");
+        clear();
+        texture.dispose();
+    }
+}
@@ -5,6 +5,8 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
 import com.has.mt.gameobjects.Projectile;
+import com.has.mt.utils.CameraCuller;
+import com.has.mt.utils.SpriteRenderQueue;
 
 public class ProjectileManager implements Disposable {
     private final Array<Projectile> activeProjectiles = new Array<>();
@@ -31,13 +33,23 @@ public class ProjectileManager implements Disposable {
         }
     }
     public void render(SpriteBatch batch) {
+        render(batch, null);
+    }
+    // Projectiles outside the culler's view are skipped (null culler draws everything)
+    public void render(SpriteBatch batch, CameraCuller culler) {
         if (activeProjectiles == null || batch == null) return; // Safety checks
         for (Projectile p : activeProjectiles) {
             if (p != null) { // Safety check
-                p.render(batch);
+                p.render(batch, culler);
             }
         }
     }
+    public void submit(SpriteRenderQueue queue, CameraCuller culler) {
+        if (activeProjectiles == null || queue == null) return; // Safety checks
+        for (Projectile p : activeProjectiles) {
+            if (p != null) p.submit(queue, culler);
+        }
+    }
     public Array<Projectile> getActiveProjectiles() {
         return activeProjectiles;
     }
@@ -3,11 +3,13 @@ package com.has.mt.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.has.mt.GameConfig;
 import com.has.mt.MyGdxGame;
+import com.has.mt.utils.FrameRateGovernor;
 
 public abstract class AbstractScreen implements Screen {
     protected final MyGdxGame game;
@@ -17,8 +19,9 @@ public abstract class AbstractScreen implements Screen {
 
     public AbstractScreen(final MyGdxGame game) {
         this.game = game;
-        this.uiCamera = new OrthographicCamera();
-        this.uiViewport = new FitViewport(GameConfig.V_WIDTH, GameConfig.V_HEIGHT, uiCamera);
+        // All screens draw their UI through the registry's camera and viewport when there is one
+        this.uiCamera = game.screens != null ? game.screens.getUiCamera() : new OrthographicCamera();
+        this.uiViewport = game.screens != null ? game.screens.getUiViewport() : new FitViewport(GameConfig.V_WIDTH, GameConfig.V_HEIGHT, uiCamera);
         this.uiCamera.position.set(GameConfig.V_WIDTH / 2f, GameConfig.V_HEIGHT / 2f, 0);
         this.uiCamera.update();
         // Create the Stage AFTER checking if game.batch is valid
@@ -34,21 +37,36 @@ public abstract class AbstractScreen implements Screen {
     public void show() {
         // Set input processor to the UI stage when screen is shown
         Gdx.input.setInputProcessor(stage);
+        if (game.frameRateGovernor != null) game.frameRateGovernor.setMode(getFrameRateMode());
+    }
+
+    // Menus only redraw on input or running actions; screens that animate every frame override this
+    protected FrameRateGovernor.Mode getFrameRateMode() {
+        return FrameRateGovernor.Mode.STATIC_UI;
     }
 
     @Override
     public void render(float delta) {
         // Concrete screens must clear the screen
+        drawStage(delta);
+    }
 
+    // Acts and draws the UI stage. Shared by every screen so text always gets the font shader.
+    protected void drawStage(float delta) {
         // Render UI Stage
         uiViewport.apply(); // Apply viewport BEFORE stage operations
         // --- CHANGE START: Catch potential Stage errors ---
+        // Distance field text needs its shader; it draws non-text widgets like the default one
+        ShaderProgram uiShader = game.uiFonts != null ? game.uiFonts.getShader() : null;
         try {
-            stage.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f)); // Use Gdx delta, cap frame time
+            stage.act(Math.min(delta, 1 / 30f)); // Cap frame time, the first frame after an idle spell can be long
+            if (uiShader != null) game.batch.setShader(uiShader);
             stage.draw();
         } catch (Exception e) {
             Gdx.app.error(this.getClass().getSimpleName(), "Error during Stage act/draw", e);
             // Depending on the error, might need to handle differently (e.g., skip draw)
+        } finally {
+            if (uiShader != null) game.batch.setShader(null);
         }
         // --- CHANGE END ---
     }
@@ -57,6 +75,9 @@ public abstract class AbstractScreen implements Screen {
     public void resize(int width, int height) {
         // Update the UI viewport only. Game viewport is handled by GameScreen.
         uiViewport.update(width, height, true); // Center camera true
+        if (game.uiFonts != null) {
+            game.uiFonts.updateScreenScale(uiViewport.getScreenWidth() / GameConfig.V_WIDTH);
+        }
     }
 
     @Override
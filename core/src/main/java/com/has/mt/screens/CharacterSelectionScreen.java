@@ -7,11 +7,13 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.has.mt.*;
+import com.has.mt.gameobjects.ArchetypeRegistry;
 import com.has.mt.interfaces.GameExceptionMessages; // Import messages
 
 import java.util.LinkedHashMap;
@@ -38,6 +40,7 @@ public class CharacterSelectionScreen extends AbstractScreen {
         // --- CHANGE START: Use TextButton specifically ---
         TextButton selectButton; // Changed from Button to TextButton
         // --- CHANGE END ---
+        TextureRegionDrawable previewDrawable; // Created once, reused every time this character is picked
         int frameWidth = 0;
 
         CharacterPreviewData(String displayName, String idleAssetPath) {
@@ -47,27 +50,27 @@ public class CharacterSelectionScreen extends AbstractScreen {
     }
 
 
-    private final String username;
+    private String username;
+    private boolean uiBuilt = false; // The layout is built on the first show() and kept while cached
+
     public CharacterSelectionScreen(MyGdxGame game, String username) {
         super(game);
         this.username = username;
         Gdx.app.log("CharacterSelectionScreen", "Screen created for user: " + username);
         prefs = Gdx.app.getPreferences(GameConfig.PREFS_NAME);
 
-        // Define characters and their *IDLE* frame widths (cols)
-        // VERIFY THESE FRAME WIDTHS (total width / number of columns)
-        characterPreviews.put("Knight_1", new CharacterPreviewData("Knight", AssetLoader.KNIGHT_IDLE_PATH));
-        characterPreviews.put("LightningMage", new CharacterPreviewData("Lightning Mage", AssetLoader.MAGE_IDLE_PATH));
-        characterPreviews.put("FireWizard", new CharacterPreviewData("Fire Wizard", AssetLoader.FIRE_WIZARD_IDLE_PATH));
-        characterPreviews.put("WandererMage", new CharacterPreviewData("Wanderer Mage", AssetLoader.WANDERER_MAGE_IDLE_PATH));
-        characterPreviews.put("Samurai", new CharacterPreviewData("Samurai", AssetLoader.SAMURAI_IDLE_PATH));
-        characterPreviews.put("SamuraiArcher", new CharacterPreviewData("Samurai Archer", AssetLoader.SAMURAI_ARCHER_IDLE_PATH));
-        characterPreviews.put("SamuraiCommander", new CharacterPreviewData("Samurai Commander", AssetLoader.SAMURAI_COMMANDER_IDLE_PATH));
-
-        loadPreviewTextures();
+        // Playable characters and their *IDLE* sheets come from assets/archetypes.txt (frame layout from the asset manifest)
+        for (ArchetypeRegistry.Archetype archetype : game.assetLoader.archetypes.getPlayers()) {
+            if (archetype.previewPath == null) {
+                Gdx.app.error("CharacterSelectionScreen", "No preview sheet for " + archetype.name + ", not selectable.");
+                continue;
+            }
+            characterPreviews.put(archetype.name, new CharacterPreviewData(archetype.displayName, archetype.previewPath));
+        }
     }
 
-    // Load static preview textures
+    // Load static preview textures. Called on every show(): an idle texture may have been
+    // evicted and reloaded while the screen was hidden, so the regions are pointed at it again.
     private void loadPreviewTextures() {
         Gdx.app.log("CharacterSelectionScreen", "Loading preview textures...");
         try {
@@ -75,41 +78,52 @@ public class CharacterSelectionScreen extends AbstractScreen {
                 CharacterPreviewData data = entry.getValue();
                 Texture idleTexture = game.assetLoader.get(data.idleAssetPath, Texture.class);
 
-                int cols = 1; // Default to 1 column
-                // Determine columns based on character type (VERIFY THESE)
-                switch (entry.getKey()) {
-                    case "Knight_1":        cols = 4; break;
-                    case "LightningMage":   cols = 7; break;
-                    case "FireWizard":      cols = 8; break;
-                    case "WandererMage":    cols = 8; break;
-                    case "Samurai":         cols = 6; break;
-                    case "SamuraiArcher":   cols = 8; break;
-                    case "SamuraiCommander":cols = 6; break;
-                    default: Gdx.app.error("CharSelect", "Unknown character type for frame width: " + entry.getKey()); break;
-                }
+                // Same layout the player's IDLE animation uses
+                AssetManifest.SheetLayout layout = game.assetLoader.manifest.getSheet(data.idleAssetPath);
+                int cols = layout != null ? layout.cols : 1;
+                if (layout == null) Gdx.app.error("CharSelect", "No sheet layout for preview: " + data.idleAssetPath);
                 data.frameWidth = idleTexture.getWidth() / cols;
                 if(data.frameWidth <= 0) data.frameWidth = idleTexture.getWidth(); // Fallback
 
-                data.idleTextureRegion = new TextureRegion(idleTexture, 0, 0, data.frameWidth, idleTexture.getHeight());
+                if (data.idleTextureRegion == null) {
+                    data.idleTextureRegion = new TextureRegion(idleTexture, 0, 0, data.frameWidth, idleTexture.getHeight());
+                    data.previewDrawable = new TextureRegionDrawable(data.idleTextureRegion);
+                } else {
+                    // The drawable shares this region, so the preview image follows it
+                    data.idleTextureRegion.setTexture(idleTexture);
+                    data.idleTextureRegion.setRegion(0, 0, data.frameWidth, idleTexture.getHeight());
+                }
             }
             Gdx.app.log("CharacterSelectionScreen", "Preview textures prepared.");
         } catch (Exception e) {
             Gdx.app.error("CharacterSelectionScreen", "Failed to load/prepare preview textures", e);
-            game.setScreen(new MainMenuScreen(game)); // Fallback
+            game.setScreen(game.screens.getMainMenu()); // Fallback
         }
     }
 
 
+    // The cached screen is handed the current user each time it is opened
+    public void setUsername(String username) {
+        this.username = username;
+        Gdx.app.log("CharacterSelectionScreen", "Screen reused for user: " + username);
+    }
+
     @Override
     public void show() {
         super.show();
         Gdx.app.log("CharacterSelectionScreen", "Show called.");
+        game.assetLoader.acquirePreviewAssets(); // Pinned while this screen is up
+        loadPreviewTextures();
+        if (uiBuilt) {
+            clearSelection(); // Every visit starts with nothing picked
+            return;
+        }
 
         try {
             skin = game.assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
         } catch (Exception e) {
             Gdx.app.error("CharacterSelectionScreen", GameExceptionMessages.SKIN_LOAD_FAILED, e);
-            game.setScreen(new MainMenuScreen(game));
+            game.setScreen(game.screens.getMainMenu());
             return;
         }
 
@@ -142,6 +156,31 @@ public class CharacterSelectionScreen extends AbstractScreen {
                 public void clicked(InputEvent event, float x, float y) {
                     selectCharacter(characterType, data.selectButton);
                 }
+
+                @Override
+                public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
+                    super.enter(event, x, y, pointer, fromActor);
+                    if (pointer != -1 || isOver(fromActor)) return; // Mouse hover only, ignore moves between children
+                    // Start loading after a short dwell so sweeping over the list doesn't queue everything
+                    data.selectButton.clearActions();
+                    data.selectButton.addAction(Actions.delay(GameConfig.PREFETCH_HOVER_DELAY,
+                        Actions.run(() -> game.assetLoader.prefetchPlayerAssets(characterType))));
+                }
+
+                @Override
+                public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
+                    super.exit(event, x, y, pointer, toActor);
+                    if (pointer != -1 || isOver(toActor)) return;
+                    data.selectButton.clearActions();
+                    // Off the list the selected character gets priority again
+                    if (selectedCharacterType != null && !selectedCharacterType.equals(characterType)) {
+                        game.assetLoader.prefetchPlayerAssets(selectedCharacterType);
+                    }
+                }
+
+                private boolean isOver(Actor actor) {
+                    return actor != null && actor.isDescendantOf(data.selectButton);
+                }
             });
             selectionListTable.add(data.selectButton).row();
         }
@@ -186,8 +225,8 @@ public class CharacterSelectionScreen extends AbstractScreen {
         backButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
-                dispose();
+                game.assetLoader.releasePrefetchedAssets(); // Nothing is going to use them now
+                game.setScreen(game.screens.getMainMenu());
             }
         });
 
@@ -196,6 +235,7 @@ public class CharacterSelectionScreen extends AbstractScreen {
         bottomTable.add(startButton).width(200).pad(GameConfig.UI_PADDING);
 
         mainTable.add(bottomTable).padTop(GameConfig.UI_PADDING * 2).center();
+        uiBuilt = true;
     }
 
 
@@ -203,11 +243,12 @@ public class CharacterSelectionScreen extends AbstractScreen {
         Gdx.app.log("CharacterSelectionScreen", characterType + " selected by " + username);
         selectedCharacterType = characterType;
         startButton.setDisabled(false);
+        game.assetLoader.prefetchPlayerAssets(characterType); // Usually resident by the time Start is pressed
 
         // Update static preview image
         CharacterPreviewData selectedData = characterPreviews.get(characterType);
-        if (selectedData != null && selectedData.idleTextureRegion != null) {
-            selectedCharacterPreviewImage.setDrawable(new TextureRegionDrawable(selectedData.idleTextureRegion));
+        if (selectedData != null && selectedData.previewDrawable != null) {
+            selectedCharacterPreviewImage.setDrawable(selectedData.previewDrawable);
         } else {
             selectedCharacterPreviewImage.setDrawable(null);
             Gdx.app.error("CharSelect", "Preview texture region missing for: " + characterType);
@@ -228,23 +269,14 @@ public class CharacterSelectionScreen extends AbstractScreen {
         prefs.flush();
 
         try {
-            Gdx.app.log("CharacterSelectionScreen", "Loading assets for " + selectedCharacterType + "...");
-            game.assetLoader.loadPlayerAssets(selectedCharacterType);
-            game.assetLoader.manager.finishLoading();
-            Gdx.app.log("CharacterSelectionScreen", "Assets loaded. Switching to GameScreen.");
+            Gdx.app.log("CharacterSelectionScreen", "Queueing assets for " + selectedCharacterType + "...");
+            game.assetLoader.loadPlayerAssets(selectedCharacterType); // GameScreen finishes loading them over several frames
+            Gdx.app.log("CharacterSelectionScreen", "Switching to GameScreen.");
 
             game.setScreen(new GameScreen(game, selectedCharacterType, username));
-            dispose();
         } catch (Exception e) {
             Gdx.app.error("CharacterSelectionScreen", "Failed to load assets or start game!", e);
-            startButton.setDisabled(true);
-            selectedCharacterType = null;
-            selectedCharacterPreviewImage.setDrawable(null);
-            for (CharacterPreviewData data : characterPreviews.values()) {
-                if (data.selectButton != null) {
-                    data.selectButton.setChecked(false);
-                }
-            }
+            clearSelection();
             // Show an error dialog to the user
             Dialog errorDialog = new Dialog("Error", skin, "dialog") // Use "dialog" window style if available
                 .text("Failed to load character assets.\n" + e.getMessage())
@@ -254,13 +286,30 @@ public class CharacterSelectionScreen extends AbstractScreen {
     }
 
 
+    private void clearSelection() {
+        selectedCharacterType = null;
+        if (startButton != null) startButton.setDisabled(true);
+        if (selectedCharacterPreviewImage != null) selectedCharacterPreviewImage.setDrawable(null);
+        for (CharacterPreviewData data : characterPreviews.values()) {
+            if (data.selectButton != null) {
+                data.selectButton.setChecked(false);
+            }
+        }
+    }
+
+
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.2f, 0.1f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         // No animation updates needed for static preview
-        stage.act(delta);
-        stage.draw();
+        drawStage(delta);
+    }
+
+    @Override
+    public void hide() {
+        super.hide();
+        game.assetLoader.releasePreviewAssets(); // Stay cached, but may be evicted while away
     }
 
     @Override
@@ -17,13 +17,25 @@ import com.has.mt.AssetLoader;
 
 public class GameOverScreen extends AbstractScreen {
 
-    private final boolean playerWon;
-    private final int finalScore;
-    private final int kills;
-    private final String username;
+    private boolean playerWon;
+    private int finalScore;
+    private int kills;
+    private String username;
+
+    // Built on the first show(); later results only change the label text
+    private boolean uiBuilt = false;
+    private Label titleLabel;
+    private Label scoreLabel;
+    private Label killsLabel;
+    private final StringBuilder textBuffer = new StringBuilder();
 
     public GameOverScreen(MyGdxGame game, boolean playerWon, int finalScore, int kills, String username) {
         super(game);
+        setResult(playerWon, finalScore, kills, username);
+    }
+
+    // Called once per finished run, also when the cached screen is reused
+    public void setResult(boolean playerWon, int finalScore, int kills, String username) {
         this.playerWon = playerWon;
         this.finalScore = finalScore;
         this.kills = kills;
@@ -57,6 +69,10 @@ public class GameOverScreen extends AbstractScreen {
     public void show() {
         super.show();
         Gdx.app.log("GameOverScreen", "Showing Game Over Screen. Player Won: " + playerWon);
+        if (uiBuilt) {
+            refreshLabels();
+            return;
+        }
 
         Skin skin;
         try {
@@ -66,7 +82,7 @@ public class GameOverScreen extends AbstractScreen {
             skin = game.assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
         } catch (Exception e){
             Gdx.app.error("GameOverScreen", "Failed to load skin", e);
-            game.setScreen(new MainMenuScreen(game));
+            game.setScreen(game.screens.getMainMenu());
             return;
         }
 
@@ -74,14 +90,14 @@ public class GameOverScreen extends AbstractScreen {
         table.setFillParent(true);
         table.center();
 
-        Label titleLabel = new Label(playerWon ? "VICTORY!" : "DEFEAT", skin, "title");
-        titleLabel.setColor(playerWon ? Color.GREEN : Color.RED);
+        titleLabel = new Label("", skin, "title");
         titleLabel.setAlignment(Align.center);
 
-        Label scoreLabel = new Label("Final Score: " + finalScore, skin);
+        scoreLabel = new Label("", skin);
         scoreLabel.setAlignment(Align.center);
-        Label killsLabel = new Label("Kills: " + kills, skin);
+        killsLabel = new Label("", skin);
         killsLabel.setAlignment(Align.center);
+        refreshLabels();
 
         TextButton restartButton = new TextButton("Play Again", skin);
         TextButton exitButton = new TextButton("Main Menu", skin);
@@ -92,8 +108,7 @@ public class GameOverScreen extends AbstractScreen {
                 Gdx.app.log("GameOverScreen", "Restart clicked");
                 Preferences prefs = Gdx.app.getPreferences(GameConfig.PREFS_NAME);
                 String lastUser = prefs.getString(GameConfig.PREF_KEY_USERNAME, "");
-                game.setScreen(new CharacterSelectionScreen(game, lastUser));
-                dispose();
+                game.setScreen(game.screens.getCharacterSelection(lastUser));
             }
         });
 
@@ -101,8 +116,7 @@ public class GameOverScreen extends AbstractScreen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 Gdx.app.log("GameOverScreen", "Exit to Main Menu clicked");
-                game.setScreen(new MainMenuScreen(game));
-                dispose();
+                game.setScreen(game.screens.getMainMenu());
             }
         });
 
@@ -113,15 +127,25 @@ public class GameOverScreen extends AbstractScreen {
         table.add(exitButton).width(250).pad(GameConfig.UI_PADDING).row();
 
         stage.addActor(table);
+        uiBuilt = true;
+    }
+
+    private void refreshLabels() {
+        titleLabel.setText(playerWon ? "VICTORY!" : "DEFEAT");
+        titleLabel.setColor(playerWon ? Color.GREEN : Color.RED);
+        textBuffer.setLength(0);
+        textBuffer.append("Final Score: ").append(finalScore);
+        scoreLabel.setText(textBuffer);
+        textBuffer.setLength(0);
+        textBuffer.append("Kills: ").append(kills);
+        killsLabel.setText(textBuffer);
     }
 
     @Override
     public void render(float delta) {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        stage.getViewport().apply();
-        stage.act(delta);
-        stage.draw();
+        drawStage(delta);
     }
 
     @Override
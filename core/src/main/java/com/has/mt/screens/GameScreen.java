@@ -3,20 +3,32 @@ package com.has.mt.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.has.mt.*;
 import com.has.mt.managers.*;
 import com.has.mt.gameobjects.Player;
 import com.has.mt.gameobjects.Character;
-import com.has.mt.gameobjects.players.*;
+import com.has.mt.gameobjects.ArchetypeRegistry;
 import com.has.mt.level.*;
 import com.has.mt.ui.*;
+import com.has.mt.utils.CameraCuller;
 import com.has.mt.utils.DebugUtils;
+import com.has.mt.utils.FrameRateGovernor;
+import com.has.mt.utils.PostProcessor;
+import com.has.mt.utils.SpriteRenderQueue;
+import com.has.mt.utils.WorldRenderTarget;
 import com.badlogic.gdx.graphics.Color;
 import com.has.mt.interfaces.GameExceptionMessages;
 
@@ -25,10 +37,15 @@ public class GameScreen extends AbstractScreen {
 
     private OrthographicCamera gameCamera;
     private Viewport gameViewport;
+    private final CameraCuller cameraCuller = new CameraCuller();
+    private WorldRenderTarget worldRenderTarget;
+    private PostProcessor postProcessor;
+    private SpriteRenderQueue spriteQueue;
     private LevelManager levelManager;
     private Player player;
     private EnemyManager enemyManager;
     private ProjectileManager projectileManager;
+    private ParticleManager particleManager;
     private CollisionManager collisionManager;
     private UIManager uiManager;
     private final String selectedCharacterType;
@@ -36,6 +53,17 @@ public class GameScreen extends AbstractScreen {
     private int score = 0;
     private int totalKillsThisGame = 0;
     private boolean gameIsOver = false;
+    private boolean started = false; // show() only resets the run the first time
+    private boolean pauseRequested = false; // Open the pause screen once this frame is on screen
+    private boolean resumedFromPause = false;
+
+    // Construction steps run from render(), several per frame within LOAD_STAGE_BUDGET_MS
+    private enum LoadStage { PLAYER_ASSETS, RENDER_TARGETS, MANAGERS, PLAYER, LEVEL_BEGIN, LEVEL, LEVEL_FINISH, HUD, DONE }
+    private LoadStage loadStage = LoadStage.PLAYER_ASSETS;
+    private boolean playerAssetsQueued = false;
+    private Label loadingLabel; // Shown with the progress bar until the run starts
+    private static final float LOADING_BAR_Y = GameConfig.V_HEIGHT * 0.4f;
+    private static final float LOADING_BAR_HEIGHT = 12f;
 
     public GameScreen(final MyGdxGame game, String selectedCharacterType, String username) {
         super(game);
@@ -43,107 +71,171 @@ public class GameScreen extends AbstractScreen {
         this.username = username;
         Gdx.app.log("GameScreen", "Initializing for User: " + username + ", Character: " + selectedCharacterType);
 
-        // Asset loading verification
-        try {
-            if (!checkPlayerAssetsLoaded(selectedCharacterType)) {
-                Gdx.app.log("GameScreen", "Player assets not loaded before entering GameScreen. Attempting synchronous load for: " + selectedCharacterType);
-                game.assetLoader.loadPlayerAssets(selectedCharacterType);
-                game.assetLoader.manager.finishLoading();
-                if (!checkPlayerAssetsLoaded(selectedCharacterType)){
-                    throw new GameLogicException("Required player assets failed to load for: " + selectedCharacterType);
-                }
-                Gdx.app.log("GameScreen", "Synchronous player asset load successful.");
-            }
-        } catch (GameLogicException e) {
-            Gdx.app.error("GameScreen", "Initialization failed! " + e.getMessage());
-            game.setScreen(new MainMenuScreen(game)); // Go back to main menu
-            dispose(); // Clean up partially initialized screen
-            return;
-        } catch (Exception e) { // Catch unexpected errors during asset loading/checking
-            Gdx.app.error("GameScreen", "Unexpected error during asset check/load!", e);
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-            return;
-        }
-
-        // Initialize Camera & Viewport
+        // Only the camera is set up here; everything heavier is built in stages from render()
         gameCamera = new OrthographicCamera();
         gameViewport = new FitViewport(GameConfig.V_WIDTH, GameConfig.V_HEIGHT, gameCamera);
 
-        // Initialize Managers (order can matter)
         try {
-            levelManager = new LevelManager(game.assetLoader);
-            projectileManager = new ProjectileManager();
-            enemyManager = new EnemyManager(game.assetLoader); // Pass DB manager if needed later
-            uiManager = new UIManager(game.assetLoader, stage); // Stage is from AbstractScreen
+            Skin skin = game.assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
+            loadingLabel = new Label("Loading...", skin);
+            loadingLabel.setSize(loadingLabel.getPrefWidth(), loadingLabel.getPrefHeight());
+            loadingLabel.setPosition(GameConfig.V_WIDTH / 2f, LOADING_BAR_Y + 40f, Align.center);
+            stage.addActor(loadingLabel);
         } catch (Exception e) {
-            Gdx.app.error("GameScreen", "Failed to initialize core managers!", e);
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-            return;
-        }
-
-        // Initialize Player
-        try {
-            createPlayer(); // Creates and sets the 'player' instance
-            if (player == null) {
-                // createPlayer should throw if it fails, but double-check
-                throw new GameLogicException("Player object is null after creation attempt for type: " + selectedCharacterType);
-            }
-        } catch(Exception e) {
-            Gdx.app.error("GameScreen", "Player creation failed!", e);
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-            return;
+            Gdx.app.error("GameScreen", "Could not create loading label, showing the bar only", e);
         }
+    }
 
-        // Initialize dependent managers
+    /**
+     * Runs construction stages until this frame's time budget is used up or a stage is only
+     * waiting for the AssetManager (pumped once per frame by MyGdxGame). A stage is the unit of
+     * work, so one slow stage can overrun the budget, but the big ones (asset loading, parallax
+     * decoding) are themselves split into per-call pieces. Returns false if loading failed and
+     * the screen has been left.
+     */
+    private boolean advanceLoading() {
+        long budgetEnd = TimeUtils.nanoTime() + GameConfig.LOAD_STAGE_BUDGET_MS * 1000000L;
         try {
-            collisionManager = new CollisionManager(player, enemyManager, projectileManager);
-            enemyManager.setPlayerTarget(player); // Set target *after* player is created
+            boolean progressed;
+            do {
+                progressed = runLoadStage();
+            } while (progressed && loadStage != LoadStage.DONE && TimeUtils.nanoTime() < budgetEnd);
         } catch (Exception e) {
-            Gdx.app.error("GameScreen", "Failed to initialize collision manager or set enemy target!", e);
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-            return;
+            Gdx.app.error("GameScreen", "Initialization failed in stage " + loadStage + "!", e);
+            game.setScreen(game.screens.getMainMenu()); // Go back to main menu
+            dispose(); // Clean up partially initialized screen
+            return false;
         }
+        if (loadStage == LoadStage.DONE) {
+            Gdx.app.log("GameScreen", "Initialization Complete for " + username);
+            if (loadingLabel != null) loadingLabel.remove();
+            if (enemyManager != null) enemyManager.startSpawning();
+        }
+        return true;
+    }
 
+    // Returns false when the stage is waiting on assets and running it again this frame is pointless
+    private boolean runLoadStage() {
+        switch (loadStage) {
+            case PLAYER_ASSETS:
+                if (!playerAssetsQueued) {
+                    playerAssetsQueued = true;
+                    if (!checkPlayerAssetsLoaded(selectedCharacterType)) {
+                        Gdx.app.log("GameScreen", "Queueing player assets for: " + selectedCharacterType);
+                        game.assetLoader.loadPlayerAssets(selectedCharacterType);
+                    }
+                }
+                if (!game.assetLoader.manager.isFinished()) return false; // Loaded by the per-frame update in MyGdxGame
+                if (!checkPlayerAssetsLoaded(selectedCharacterType)) {
+                    throw new GameLogicException("Required player assets failed to load for: " + selectedCharacterType);
+                }
+                loadStage = LoadStage.RENDER_TARGETS;
+                break;
 
-        // Load Level
-        try {
-            boolean levelLoaded = levelManager.loadLevel(0, player, enemyManager); // Load initial level
-            if (!levelLoaded) {
-                throw new GameLogicException(GameExceptionMessages.LEVEL_DATA_INVALID, "Failed to load initial level 0");
-            }
-        } catch (Exception e) {
-            Gdx.app.error("GameScreen", "Failed to load initial level!", e);
-            game.setScreen(new MainMenuScreen(game));
-            dispose();
-            return;
-        }
+            case RENDER_TARGETS:
+                worldRenderTarget = WorldRenderTarget.fromConfig();
+                postProcessor = PostProcessor.fromConfig();
+                postProcessor.resize(gameViewport); // resize() already ran before this existed
+                if (GameConfig.PARALLEL_SPRITE_PREP) spriteQueue = new SpriteRenderQueue(256);
+                loadStage = LoadStage.MANAGERS;
+                break;
 
+            case MANAGERS:
+                // Initialize Managers (order can matter)
+                levelManager = new LevelManager(game.assetLoader);
+                projectileManager = new ProjectileManager();
+                particleManager = new ParticleManager(GameConfig.PARTICLE_CAPACITY);
+                enemyManager = new EnemyManager(game.assetLoader); // Pass DB manager if needed later
+                uiManager = new UIManager(game.assetLoader, stage, game.uiFonts); // Stage is from AbstractScreen
+                loadStage = LoadStage.PLAYER;
+                break;
 
-        // Setup HUD
-        if (uiManager != null && player != null) {
-            try {
-                uiManager.createHUD(player, username);
-            } catch (Exception e) {
-                Gdx.app.error("GameScreen", "Failed to create HUD!", e);
-                // Continue game without HUD? Or go back? Decide based on importance.
-            }
-        } else {
-            Gdx.app.error("GameScreen", "UIManager or Player is null, cannot create HUD.");
+            case PLAYER:
+                createPlayer(); // Creates and sets the 'player' instance
+                if (player == null) {
+                    // createPlayer should throw if it fails, but double-check
+                    throw new GameLogicException("Player object is null after creation attempt for type: " + selectedCharacterType);
+                }
+                // Initialize dependent managers
+                collisionManager = new CollisionManager(player, enemyManager, projectileManager);
+                collisionManager.setParticleManager(particleManager);
+                enemyManager.setPlayerTarget(player); // Set target *after* player is created
+                loadStage = LoadStage.LEVEL_BEGIN;
+                break;
+
+            case LEVEL_BEGIN:
+                if (!levelManager.beginLevelLoad(0, player, enemyManager)) { // Load initial level
+                    throw new GameLogicException(GameExceptionMessages.LEVEL_DATA_INVALID, "Failed to load initial level 0");
+                }
+                loadStage = LoadStage.LEVEL;
+                break;
+
+            case LEVEL:
+                if (levelManager.stepLevelLoad()) loadStage = LoadStage.LEVEL_FINISH; // One layer / floor / cache per step
+                return !levelManager.isWaitingForLevelAssets();
+
+            case LEVEL_FINISH:
+                if (!levelManager.finishLevelLoad()) { // Positions the player and spawns the level's enemies
+                    throw new GameLogicException(GameExceptionMessages.LEVEL_DATA_INVALID, "Failed to load initial level 0");
+                }
+                loadStage = LoadStage.HUD;
+                break;
+
+            case HUD:
+                // Setup HUD
+                try {
+                    uiManager.createHUD(player, username);
+                    collisionManager.setGameHUD(uiManager.getHUD()); // Damage numbers
+                } catch (Exception e) {
+                    Gdx.app.error("GameScreen", "Failed to create HUD!", e);
+                    // Continue game without HUD? Or go back? Decide based on importance.
+                }
+                // Initial Camera Position
+                if (player.position != null) {
+                    gameCamera.position.set(player.position.x, GameConfig.V_HEIGHT / 2f, 0);
+                    gameCamera.update();
+                } else {
+                    Gdx.app.error("GameScreen", "Player position is null after init, cannot set camera.");
+                }
+                loadStage = LoadStage.DONE;
+                break;
+
+            default:
+                break;
         }
+        return true;
+    }
 
-        // Initial Camera Position
-        if (player != null && player.position != null) {
-            gameCamera.position.set(player.position.x, GameConfig.V_HEIGHT / 2f, 0);
-            gameCamera.update();
-        } else {
-            Gdx.app.error("GameScreen", "Player or player position is null after init, cannot set camera.");
+    // 0..1 over all stages, with asset loading and level decoding reporting their own progress
+    private float getLoadProgress() {
+        float stageProgress = 0f;
+        if (loadStage == LoadStage.PLAYER_ASSETS && playerAssetsQueued) {
+            stageProgress = game.assetLoader.manager.getProgress();
+        } else if (loadStage == LoadStage.LEVEL && levelManager != null) {
+            stageProgress = levelManager.getLevelLoadProgress();
         }
+        return (loadStage.ordinal() + stageProgress) / LoadStage.DONE.ordinal();
+    }
 
-        Gdx.app.log("GameScreen", "Initialization Complete for " + username);
+    private void renderLoading(float delta) {
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        if (!advanceLoading()) return; // Left for the main menu
+
+        if (game.shapeRenderer != null) {
+            float progress = getLoadProgress();
+            float width = GameConfig.V_WIDTH * 0.4f;
+            float x = (GameConfig.V_WIDTH - width) / 2f;
+            uiViewport.apply();
+            game.shapeRenderer.setProjectionMatrix(uiCamera.combined);
+            game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            game.shapeRenderer.setColor(0.25f, 0.25f, 0.3f, 1f);
+            game.shapeRenderer.rect(x, LOADING_BAR_Y, width, LOADING_BAR_HEIGHT);
+            game.shapeRenderer.setColor(0.85f, 0.85f, 0.9f, 1f);
+            game.shapeRenderer.rect(x, LOADING_BAR_Y, width * progress, LOADING_BAR_HEIGHT);
+            game.shapeRenderer.end();
+        }
+        drawStage(delta);
     }
 
     private boolean checkPlayerAssetsLoaded(String playerType) {
@@ -158,19 +250,10 @@ public class GameScreen extends AbstractScreen {
             Gdx.app.error("AssetCheck", "No paths defined for player type: " + playerType);
             return false;
         }
-        // Determine idle path more robustly
-        String idlePath = null;
-        switch (playerType) {
-            case "Knight_1": idlePath = AssetLoader.KNIGHT_IDLE_PATH; break;
-            case "LightningMage": idlePath = AssetLoader.MAGE_IDLE_PATH; break;
-            case "FireWizard": idlePath = AssetLoader.FIRE_WIZARD_IDLE_PATH; break;
-            case "WandererMage": idlePath = AssetLoader.WANDERER_MAGE_IDLE_PATH; break;
-            case "Samurai": idlePath = AssetLoader.SAMURAI_IDLE_PATH; break;
-            case "SamuraiArcher": idlePath = AssetLoader.SAMURAI_ARCHER_IDLE_PATH; break;
-            case "SamuraiCommander": idlePath = AssetLoader.SAMURAI_COMMANDER_IDLE_PATH; break;
-            // Add other specific cases if needed
-        }
-        // If no specific case matched, try finding the one ending in "Idle.png"
+        // The idle sheet is the one character select previews
+        ArchetypeRegistry.Archetype archetype = game.assetLoader.archetypes.get(playerType);
+        String idlePath = archetype != null ? archetype.previewPath : null;
+        // If the archetype has no preview, try finding the one ending in "Idle.png"
         if (idlePath == null) {
             for(String path : paths) {
                 if(path != null && path.endsWith("Idle.png")) {
@@ -204,35 +287,14 @@ public class GameScreen extends AbstractScreen {
             }
         }
         Gdx.app.log("GameScreen", "Creating player of type: " + selectedCharacterType);
-        // --- CHANGE START: Add cases for all new players ---
-        switch (this.selectedCharacterType) {
-            case "Knight_1":
-                player = new KnightPlayer(game.assetLoader, startX, startY);
-                break;
-            case "LightningMage":
-                player = new LightningMagePlayer(game.assetLoader, startX, startY, projectileManager);
-                break;
-            case "FireWizard":
-                player = new FireWizardPlayer(game.assetLoader, startX, startY, projectileManager);
-                break;
-            case "WandererMage":
-                player = new WandererMagePlayer(game.assetLoader, startX, startY, projectileManager);
-                break;
-            case "Samurai":
-                player = new SamuraiPlayer(game.assetLoader, startX, startY); // No projectile manager needed?
-                break;
-            case "SamuraiArcher":
-                player = new SamuraiArcherPlayer(game.assetLoader, startX, startY, projectileManager);
-                break;
-            case "SamuraiCommander":
-                player = new SamuraiCommanderPlayer(game.assetLoader, startX, startY); // No projectile manager needed?
-                break;
-            // --- END CHANGE ---
-            default:
-                Gdx.app.error("GameScreen", "Unknown or unimplemented character type in createPlayer: " + selectedCharacterType + ". Defaulting to Mage.");
-                player = new LightningMagePlayer(game.assetLoader, startX, startY, projectileManager); // Keep fallback
-                break;
+        ArchetypeRegistry archetypes = game.assetLoader.archetypes;
+        int typeId = archetypes.getId(selectedCharacterType);
+        ArchetypeRegistry.Archetype archetype = archetypes.get(typeId);
+        if (archetype == null || !archetype.player) {
+            Gdx.app.error("GameScreen", "Unknown or unimplemented character type in createPlayer: " + selectedCharacterType + ". Defaulting to Mage.");
+            typeId = archetypes.getId("LightningMage"); // Keep fallback
         }
+        player = archetypes.createPlayer(typeId, game.assetLoader, startX, startY, projectileManager);
         if (player != null) {
             player.reset(startX, startY);
         }
@@ -243,23 +305,35 @@ public class GameScreen extends AbstractScreen {
     public void show() {
         super.show();
         Gdx.app.log("GameScreen", "Showing Game Screen for " + username);
-        gameIsOver = false;
-        score = 0;
-        totalKillsThisGame = 0;
+        if (started) {
+            Gdx.app.log("GameScreen", "Resuming from pause");
+            resumedFromPause = true;
+        } else {
+            started = true;
+            gameIsOver = false;
+            score = 0;
+            totalKillsThisGame = 0;
+            if (enemyManager != null) enemyManager.resetKillCount();
+        }
+        if (loadStage != LoadStage.DONE) return; // Spawning starts when loading finishes
         if (enemyManager != null) {
-            enemyManager.resetKillCount();
             enemyManager.startSpawning(); // Ensure continuous spawning is active
         } else {
             Gdx.app.error("GameScreen", "EnemyManager is null in show()");
         }
     }
 
+    @Override
+    protected FrameRateGovernor.Mode getFrameRateMode() {
+        return FrameRateGovernor.Mode.GAMEPLAY; // The world animates every frame
+    }
+
     private void update(float delta) {
         if (gameIsOver) return;
 
         if (InputManager.isActionJustPressed(InputManager.Action.PAUSE)) {
-            Gdx.app.log("GameScreen", "Pause requested - NOT IMPLEMENTED");
-            // game.setScreen(new PauseScreen(game, this)); // Future implementation
+            Gdx.app.log("GameScreen", "Pause requested");
+            pauseRequested = true; // Finish drawing this frame, then capture it
             return;
         }
 
@@ -278,6 +352,11 @@ public class GameScreen extends AbstractScreen {
             if (projectileManager != null) projectileManager.update(delta);
             if (collisionManager != null) collisionManager.checkCollisions();
             if (levelManager != null && player != null) levelManager.update(delta, player.position.x);
+            if (particleManager != null) {
+                Level level = (levelManager != null) ? levelManager.getCurrentLevel() : null;
+                particleManager.setAmbientTheme(level != null && level.getLevelData() != null ? level.getLevelData().backgroundTheme : null);
+                particleManager.update(delta, gameCamera.position.x, gameViewport.getWorldWidth(), gameViewport.getWorldHeight());
+            }
 
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Error during game update loop!", e);
@@ -302,9 +381,14 @@ public class GameScreen extends AbstractScreen {
             gameCamera.update();
         }
 
+        if (postProcessor != null && player != null && player.healthComponent != null) {
+            postProcessor.setHealthPercent(player.healthComponent.getHealthPercentage());
+        }
+
         // Update HUD (with safety checks)
         if (uiManager != null && player != null) {
-            uiManager.updateHUD(player, score);
+            uiManager.updateHUD(player, score); // Cheap when nothing changed
+            uiManager.updateDamageNumbers(delta, gameCamera);
         }
 
         // Check Game Over Conditions
@@ -340,7 +424,7 @@ public class GameScreen extends AbstractScreen {
         }
         // Ensure game instance is valid before setting screen
         if (game != null) {
-            game.setScreen(new GameOverScreen(game, playerWon, score, totalKillsThisGame, username));
+            game.setScreen(game.screens.getGameOver(playerWon, score, totalKillsThisGame, username));
             dispose(); // Dispose this GameScreen after setting the new one
         } else {
             Gdx.app.error("GameScreen", "Game instance is null, cannot switch to GameOverScreen!");
@@ -350,6 +434,14 @@ public class GameScreen extends AbstractScreen {
 
     @Override
     public void render(float delta) {
+        if (loadStage != LoadStage.DONE) {
+            renderLoading(delta);
+            return;
+        }
+        if (resumedFromPause) {
+            resumedFromPause = false;
+            delta = Math.min(delta, GameConfig.FRAME_TIME_BUDGET); // Time spent on the pause menu isn't game time
+        }
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         update(delta);
@@ -358,9 +450,22 @@ public class GameScreen extends AbstractScreen {
             catch (Exception e) { Gdx.app.error("GameScreen", "Error rendering UI during game over transition", e); }
             return;
         }
+        boolean offscreen = false;
+        boolean postProcessing = false;
         try {
-            gameViewport.apply();
+            if (postProcessor != null) postProcessor.update(delta);
+            if (worldRenderTarget != null) {
+                worldRenderTarget.update(delta);
+                offscreen = worldRenderTarget.begin(0.1f, 0.1f, 0.15f);
+            }
+            // With a low-res world target, effects capture its blit instead of the world itself
+            if (!offscreen && postProcessor != null) postProcessing = postProcessor.begin(0.1f, 0.1f, 0.15f);
+            if (!offscreen && !postProcessing) gameViewport.apply(); // Off-screen targets set their own GL viewport
             game.batch.setProjectionMatrix(gameCamera.combined);
+            cameraCuller.update(gameCamera);
+            if (levelManager != null) {
+                levelManager.renderStaticLayers(gameCamera.combined, gameCamera.position.x);
+            }
             game.batch.setColor(Color.WHITE);
             game.batch.begin();
             if (levelManager != null) {
@@ -368,13 +473,31 @@ public class GameScreen extends AbstractScreen {
                 levelManager.renderFloor(game.batch, gameCamera.position.x);
             }
             game.batch.setColor(Color.WHITE); // Reset just in case
-            if (enemyManager != null) enemyManager.render(game.batch);
-            if (player != null) player.render(game.batch);
-            if (projectileManager != null) projectileManager.render(game.batch);
+            if (spriteQueue != null) {
+                // Queue in draw order, then build all vertices in one pass
+                if (enemyManager != null) enemyManager.submit(spriteQueue, cameraCuller);
+                if (player != null) player.submit(spriteQueue, cameraCuller);
+                if (projectileManager != null) projectileManager.submit(spriteQueue, cameraCuller);
+                spriteQueue.flush(game.batch);
+            } else {
+                if (enemyManager != null) enemyManager.render(game.batch, cameraCuller);
+                if (player != null) player.render(game.batch, cameraCuller);
+                if (projectileManager != null) projectileManager.render(game.batch, cameraCuller);
+            }
+            if (particleManager != null) particleManager.render(game.batch, cameraCuller); // Sparks and weather over the characters
+            if (enemyManager != null) enemyManager.renderHealthBars(game.batch, cameraCuller); // Same batch pass, on top of sprites
             game.batch.end();
+            if (offscreen) {
+                worldRenderTarget.end();
+                if (postProcessor != null) postProcessing = postProcessor.begin(0.1f, 0.1f, 0.15f);
+                worldRenderTarget.blit(game.batch, postProcessing ? null : gameViewport);
+            }
+            if (postProcessing) postProcessor.endAndRender();
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Error during game world rendering!", e);
             if (game.batch != null && game.batch.isDrawing()) game.batch.end(); // Safely end batch
+            if (offscreen) worldRenderTarget.end(); // Unbind the FrameBuffer
+            if (postProcessing) postProcessor.endAndRender();
             handleGameOver(false); // Trigger game over on render error
         }
         if (GameConfig.DEBUG_DRAW_BOXES && !gameIsOver && game.shapeRenderer != null) { // Added shapeRenderer null check
@@ -395,12 +518,48 @@ public class GameScreen extends AbstractScreen {
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Error during UI rendering!", e);
         }
+        if (pauseRequested && !gameIsOver) {
+            pauseRequested = false;
+            game.setScreen(new PauseScreen(game, this, captureFrame()));
+        }
+    }
+
+    // Copies the finished frame (world and HUD) out of the back buffer into a FrameBuffer texture
+    private FrameBuffer captureFrame() {
+        int x = HdpiUtils.toBackBufferX(gameViewport.getScreenX());
+        int y = HdpiUtils.toBackBufferY(gameViewport.getScreenY());
+        int width = HdpiUtils.toBackBufferX(gameViewport.getScreenWidth());
+        int height = HdpiUtils.toBackBufferY(gameViewport.getScreenHeight());
+        if (width <= 0 || height <= 0) return null;
+        FrameBuffer frame = null;
+        try {
+            frame = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            frame.getColorBufferTexture().bind();
+            Gdx.gl.glCopyTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, x, y, width, height);
+            return frame;
+        } catch (Exception e) {
+            Gdx.app.error("GameScreen", "Failed to capture frame for pause screen", e);
+            if (frame != null) frame.dispose();
+            return null;
+        }
+    }
+
+    // Leaves a paused run for the main menu without recording a result
+    public void quitToMainMenu() {
+        if (gameIsOver) return;
+        gameIsOver = true;
+        Gdx.app.log("GameScreen", "Quitting to main menu");
+        if (enemyManager != null) enemyManager.stopSpawning();
+        if (game.assetLoader != null) game.assetLoader.unloadCurrentPlayerAssets();
+        game.setScreen(game.screens.getMainMenu());
+        dispose();
     }
 
     @Override
     public void resize(int width, int height) {
         if (gameViewport != null) gameViewport.update(width, height); // Added null check
         if (gameCamera != null) gameCamera.update(); // Added null check
+        if (postProcessor != null) postProcessor.resize(gameViewport);
         super.resize(width, height);
     }
 
@@ -411,15 +570,19 @@ public class GameScreen extends AbstractScreen {
         if (player != null) { player.dispose(); player = null; }
         if (enemyManager != null) { enemyManager.dispose(); enemyManager = null; }
         if (projectileManager != null) { projectileManager.dispose(); projectileManager = null; }
+        if (particleManager != null) { particleManager.dispose(); particleManager = null; }
         if (levelManager != null) { levelManager.dispose(); levelManager = null; }
         if (uiManager != null) { uiManager.dispose(); uiManager = null; }
+        if (worldRenderTarget != null) { worldRenderTarget.dispose(); worldRenderTarget = null; }
+        if (postProcessor != null) { postProcessor.dispose(); postProcessor = null; }
+        if (spriteQueue != null) { spriteQueue.dispose(); spriteQueue = null; }
         collisionManager = null;
         super.dispose(); // Disposes stage
         Gdx.app.log("GameScreen", "Game Screen dispose finished.");
     }
 
     @Override public void pause() { Gdx.app.log("GameScreen", "Pausing"); if (enemyManager != null) enemyManager.stopSpawning(); }
-    @Override public void resume() { Gdx.app.log("GameScreen", "Resuming"); if (enemyManager != null && !gameIsOver) enemyManager.startSpawning(); } // Only restart if game not over
+    @Override public void resume() { Gdx.app.log("GameScreen", "Resuming"); if (enemyManager != null && !gameIsOver && loadStage == LoadStage.DONE) enemyManager.startSpawning(); } // Only restart if game not over and loaded
     @Override public void hide() { super.hide(); Gdx.app.log("GameScreen", "Hiding"); if (enemyManager != null) enemyManager.stopSpawning(); }
 
 }
@@ -0,0 +1,88 @@
+package com.has.mt.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.has.mt.AssetLoader;
+import com.has.mt.GameConfig;
+import com.has.mt.MyGdxGame;
+import com.has.mt.utils.FrameRateGovernor;
+
+/**
+ * First screen after launch. Pumps the AssetManager with a per-frame time budget and draws a
+ * progress bar, then opens the main menu as soon as the assets the menu needs (the UI skin)
+ * are resident. Everything else queued at boot keeps loading from MyGdxGame.render().
+ */
+public class LoadingScreen extends AbstractScreen {
+
+    private static final float BAR_HEIGHT = 12f;
+    private boolean done = false;
+
+    public LoadingScreen(MyGdxGame game) {
+        super(game);
+    }
+
+    @Override
+    public void show() {
+        super.show();
+        Gdx.app.log("LoadingScreen", "Showing Loading Screen");
+    }
+
+    @Override
+    protected FrameRateGovernor.Mode getFrameRateMode() {
+        return FrameRateGovernor.Mode.GAMEPLAY; // Must keep rendering so loading keeps going
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        if (done) return;
+
+        try {
+            game.assetLoader.update(GameConfig.BOOT_LOAD_BUDGET_MS);
+        } catch (Exception e) {
+            Gdx.app.error("LoadingScreen", "Asset loading failed during boot!", e);
+            Gdx.app.exit();
+            done = true;
+            return;
+        }
+
+        if (game.assetLoader.hasFailed(AssetLoader.UI_SKIN_PATH)) {
+            Gdx.app.error("LoadingScreen", "UI skin failed to load during boot!");
+            Gdx.app.exit();
+            done = true;
+            return;
+        }
+        if (game.assetLoader.manager.isLoaded(AssetLoader.UI_SKIN_PATH)) {
+            done = true;
+            if (game.onBootAssetsReady()) {
+                game.setScreen(game.screens.getMainMenu());
+                dispose();
+            }
+            return;
+        }
+        drawProgress(game.assetLoader.manager.getProgress());
+    }
+
+    private void drawProgress(float progress) {
+        if (game.shapeRenderer == null) return; // Safety check
+        float width = GameConfig.V_WIDTH * 0.4f;
+        float x = (GameConfig.V_WIDTH - width) / 2f;
+        float y = GameConfig.V_HEIGHT * 0.4f;
+        uiViewport.apply();
+        game.shapeRenderer.setProjectionMatrix(uiCamera.combined);
+        game.shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        game.shapeRenderer.setColor(0.25f, 0.25f, 0.3f, 1f);
+        game.shapeRenderer.rect(x, y, width, BAR_HEIGHT);
+        game.shapeRenderer.setColor(0.85f, 0.85f, 0.9f, 1f);
+        game.shapeRenderer.rect(x, y, width * progress, BAR_HEIGHT);
+        game.shapeRenderer.end();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        Gdx.app.log("LoadingScreen", "Disposing Loading Screen");
+    }
+}
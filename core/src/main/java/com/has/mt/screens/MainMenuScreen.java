@@ -19,6 +19,14 @@ public class MainMenuScreen extends AbstractScreen {
     private Table leaderboardTable;
     private Skin skin;
     private Preferences prefs;
+    private boolean uiBuilt = false; // The layout is built on the first show() and kept while cached
+
+    // Leaderboard rows are created once and only get new text on re-entry
+    private Label[] rankLabels;
+    private Label[] nameLabels;
+    private Label[] scoreLabels;
+    private Label leaderboardMessage;
+    private final StringBuilder textBuffer = new StringBuilder();
 
     public MainMenuScreen(final MyGdxGame game) {
         super(game);
@@ -29,6 +37,12 @@ public class MainMenuScreen extends AbstractScreen {
     public void show() {
         super.show();
         Gdx.app.log("MainMenuScreen", "Showing Main Menu");
+        if (uiBuilt) {
+            // Cached: only the username and scores can have changed
+            usernameField.setText(prefs.getString(GameConfig.PREF_KEY_USERNAME, ""));
+            populateLeaderboard();
+            return;
+        }
 
         try {
             // --- Robust Skin Loading ---
@@ -94,8 +108,7 @@ public class MainMenuScreen extends AbstractScreen {
                 prefs.putString(GameConfig.PREF_KEY_USERNAME, username); // Save username
                 prefs.flush();
                 try {
-                    game.setScreen(new CharacterSelectionScreen(game, username));
-                    dispose();
+                    game.setScreen(game.screens.getCharacterSelection(username));
                 } catch (Throwable t) { // Catch broader errors
                     Gdx.app.error("MainMenuScreen", "Failed to create/set CharacterSelectionScreen", t);
                     // Optionally show an error dialog
@@ -142,45 +155,89 @@ public class MainMenuScreen extends AbstractScreen {
         mainTable.add(rightTable).expandY().fillY().right();
 
         // stage.setDebugAll(GameConfig.DEBUG_DRAW_BOXES); // Uncomment to debug layout
+        uiBuilt = true;
     }
 
 
     private void populateLeaderboard() {
-        leaderboardTable.clearChildren(); // Clear previous entries
-        leaderboardTable.defaults().pad(GameConfig.UI_PADDING / 2).align(Align.left); // Align text left
-
-        // Header row
-        leaderboardTable.add(new Label("Rank", skin, "small")).padRight(10).align(Align.center);
-        leaderboardTable.add(new Label("Username", skin, "small")).expandX().fillX();
-        leaderboardTable.add(new Label("Score", skin, "small")).minWidth(80).align(Align.right);
-        leaderboardTable.row();
-        // --- Simple spacing instead of Separator ---
-        leaderboardTable.add().height(2).colspan(3).row();
-        // --- End spacing ---
-
+        if (rankLabels == null) buildLeaderboardRows();
+        for (int i = 0; i < rankLabels.length; i++) {
+            rankLabels[i].setVisible(false);
+            nameLabels[i].setVisible(false);
+            scoreLabels[i].setVisible(false);
+        }
+        leaderboardMessage.setVisible(false);
 
+        if (game.dbManager == null) {
+            // Still connecting in the background; MyGdxGame calls refreshLeaderboard() when it is up
+            leaderboardMessage.setText("Loading scores...");
+            leaderboardMessage.setVisible(true);
+            return;
+        }
         try {
-            if (game.dbManager == null) {
-                throw new GameLogicException(GameExceptionMessages.NULL_DEPENDENCY, "DatabaseManager is null in MainMenu");
-            }
             List<PlayerStats> topPlayers = game.dbManager.getTopScores(GameConfig.LEADERBOARD_SIZE);
 
             if (topPlayers == null || topPlayers.isEmpty()) {
-                leaderboardTable.add(new Label("No scores yet!", skin)).colspan(3).center().padTop(20).row();
+                leaderboardMessage.setText("No scores yet!");
+                leaderboardMessage.setVisible(true);
             } else {
-                int rank = 1;
+                int row = 0;
                 for (PlayerStats stats : topPlayers) {
-                    if(stats == null) continue; // Skip null entries if DB query returned null somehow
-                    leaderboardTable.add(new Label(rank + ".", skin)).align(Align.center).padRight(10);
-                    leaderboardTable.add(new Label(stats.username, skin)).expandX().fillX(); // Allow username to take space
-                    leaderboardTable.add(new Label(String.valueOf(stats.highestScore), skin)).align(Align.right);
-                    leaderboardTable.row();
-                    rank++;
+                    if (stats == null) continue; // Skip null entries if DB query returned null somehow
+                    if (row >= rankLabels.length) break;
+                    textBuffer.setLength(0);
+                    textBuffer.append(row + 1).append('.');
+                    rankLabels[row].setText(textBuffer);
+                    nameLabels[row].setText(stats.username);
+                    textBuffer.setLength(0);
+                    textBuffer.append(stats.highestScore);
+                    scoreLabels[row].setText(textBuffer);
+                    rankLabels[row].setVisible(true);
+                    nameLabels[row].setVisible(true);
+                    scoreLabels[row].setVisible(true);
+                    row++;
                 }
             }
         } catch (Exception e) {
             Gdx.app.error("MainMenuScreen", "Failed to retrieve leaderboard data", e);
-            leaderboardTable.add(new Label("Error loading scores.", skin)).colspan(3).center().padTop(20).row();
+            leaderboardMessage.setText("Error loading scores.");
+            leaderboardMessage.setVisible(true);
+        }
+    }
+
+    public void refreshLeaderboard() {
+        if (uiBuilt) populateLeaderboard();
+    }
+
+    // Header plus LEADERBOARD_SIZE rows of labels, filled in by populateLeaderboard()
+    private void buildLeaderboardRows() {
+        leaderboardTable.clearChildren();
+        leaderboardTable.defaults().pad(GameConfig.UI_PADDING / 2).align(Align.left); // Align text left
+
+        // Header row
+        leaderboardTable.add(new Label("Rank", skin, "small")).padRight(10).align(Align.center);
+        leaderboardTable.add(new Label("Username", skin, "small")).expandX().fillX();
+        leaderboardTable.add(new Label("Score", skin, "small")).minWidth(80).align(Align.right);
+        leaderboardTable.row();
+        // --- Simple spacing instead of Separator ---
+        leaderboardTable.add().height(2).colspan(3).row();
+        // --- End spacing ---
+
+        leaderboardMessage = new Label("", skin);
+        leaderboardTable.add(leaderboardMessage).colspan(3).center().padTop(20).row();
+
+        int size = GameConfig.LEADERBOARD_SIZE;
+        rankLabels = new Label[size];
+        nameLabels = new Label[size];
+        scoreLabels = new Label[size];
+        for (int i = 0; i < size; i++) {
+            rankLabels[i] = new Label("", skin);
+            nameLabels[i] = new Label("", skin);
+            scoreLabels[i] = new Label("", skin);
+            leaderboardTable.add(rankLabels[i]).align(Align.center).padRight(10);
+            leaderboardTable.add(nameLabels[i]).expandX().fillX(); // Allow username to take space
+            leaderboardTable.add(scoreLabels[i]).align(Align.right);
+            leaderboardTable.row();
         }
     }
 
@@ -189,9 +246,7 @@ public class MainMenuScreen extends AbstractScreen {
     public void render(float delta) {
         Gdx.gl.glClearColor(0.1f, 0.1f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        stage.getViewport().apply(); // Apply viewport before acting/drawing
-        stage.act(delta);
-        stage.draw();
+        drawStage(delta);
     }
 
     @Override
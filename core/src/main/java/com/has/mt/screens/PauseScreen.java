@@ -1,4 +1,138 @@
 package com.has.mt.screens;
 
-public class PauseScreen {
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.Align;
+import com.has.mt.AssetLoader;
+import com.has.mt.GameConfig;
+import com.has.mt.MyGdxGame;
+import com.has.mt.managers.InputManager;
+
+/**
+ * Pause menu. The GameScreen is not rendered or updated while this screen is up; instead the
+ * frame it captured when pausing is drawn as a single dimmed quad under the pause UI.
+ * Rendering is non-continuous here, so an idle pause costs next to nothing.
+ */
+public class PauseScreen extends AbstractScreen {
+
+    private final GameScreen gameScreen;
+    private FrameBuffer frozenFrame; // Owned by this screen, may be null if the capture failed
+    private boolean leaving = false;
+
+    public PauseScreen(MyGdxGame game, GameScreen gameScreen, FrameBuffer frozenFrame) {
+        super(game);
+        this.gameScreen = gameScreen;
+        this.frozenFrame = frozenFrame;
+    }
+
+    @Override
+    public void show() {
+        super.show();
+        Gdx.app.log("PauseScreen", "Showing Pause Screen");
+        if (game.frameRateGovernor != null) game.frameRateGovernor.setGamePaused(true);
+
+        Skin skin;
+        try {
+            skin = game.assetLoader.get(AssetLoader.UI_SKIN_PATH, Skin.class);
+        } catch (Exception e) {
+            Gdx.app.error("PauseScreen", "Failed to load skin, resuming game", e);
+            resumeGame();
+            return;
+        }
+
+        Table table = new Table();
+        table.setFillParent(true);
+        table.center();
+
+        Label titleLabel = new Label("PAUSED", skin, "title");
+        titleLabel.setAlignment(Align.center);
+        TextButton resumeButton = new TextButton("Resume", skin);
+        TextButton menuButton = new TextButton("Main Menu", skin);
+
+        resumeButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                Gdx.app.log("PauseScreen", "Resume clicked");
+                resumeGame();
+            }
+        });
+
+        menuButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                Gdx.app.log("PauseScreen", "Main Menu clicked");
+                if (leaving) return;
+                leaving = true;
+                if (gameScreen != null) gameScreen.quitToMainMenu(); // Switches screen and disposes the game
+                else game.setScreen(game.screens.getMainMenu());
+                dispose();
+            }
+        });
+
+        table.add(titleLabel).padBottom(GameConfig.UI_PADDING * 4).row();
+        table.add(resumeButton).width(250).pad(GameConfig.UI_PADDING).row();
+        table.add(menuButton).width(250).pad(GameConfig.UI_PADDING).row();
+        stage.addActor(table);
+    }
+
+    private void resumeGame() {
+        if (leaving) return;
+        leaving = true;
+        if (gameScreen != null) {
+            game.setScreen(gameScreen); // GameScreen.show() resumes without resetting
+        } else {
+            game.setScreen(game.screens.getMainMenu());
+        }
+        dispose();
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        if (InputManager.isActionJustPressed(InputManager.Action.PAUSE)) {
+            resumeGame();
+            return;
+        }
+
+        if (frozenFrame != null) {
+            uiViewport.apply();
+            game.batch.setProjectionMatrix(uiCamera.combined);
+            game.batch.setColor(0.45f, 0.45f, 0.5f, 1f); // Dim the game behind the menu
+            game.batch.disableBlending(); // Opaque full-screen quad
+            game.batch.begin();
+            Texture texture = frozenFrame.getColorBufferTexture();
+            // FrameBuffer textures are stored bottom-up, so v runs 0 (bottom) to 1 (top)
+            game.batch.draw(texture, 0, 0, GameConfig.V_WIDTH, GameConfig.V_HEIGHT, 0f, 0f, 1f, 1f);
+            game.batch.end();
+            game.batch.enableBlending();
+            game.batch.setColor(1f, 1f, 1f, 1f);
+        }
+        drawStage(delta);
+    }
+
+    @Override
+    public void hide() {
+        super.hide();
+        if (game.frameRateGovernor != null) game.frameRateGovernor.setGamePaused(false);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        Gdx.app.log("PauseScreen", "Disposing Pause Screen");
+        if (frozenFrame != null) {
+            frozenFrame.dispose();
+            frozenFrame = null;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.has.mt.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.has.mt.GameConfig;
+import com.has.mt.MyGdxGame;
+
+/**
+ * Keeps the menu screens alive between transitions. Each one builds its Stage and table
+ * layout once and only rebinds its dynamic data (username, scores, leaderboard) when it is
+ * shown again. All screens share one UI camera and viewport.
+ * GameScreen and PauseScreen are per run and are still created and disposed as before.
+ */
+public class ScreenRegistry implements Disposable {
+
+    private final MyGdxGame game;
+    private final OrthographicCamera uiCamera;
+    private final Viewport uiViewport;
+
+    private MainMenuScreen mainMenuScreen;
+    private CharacterSelectionScreen characterSelectionScreen;
+    private GameOverScreen gameOverScreen;
+
+    public ScreenRegistry(MyGdxGame game) {
+        this.game = game;
+        this.uiCamera = new OrthographicCamera();
+        this.uiViewport = new FitViewport(GameConfig.V_WIDTH, GameConfig.V_HEIGHT, uiCamera);
+    }
+
+    public OrthographicCamera getUiCamera() {
+        return uiCamera;
+    }
+
+    public Viewport getUiViewport() {
+        return uiViewport;
+    }
+
+    public MainMenuScreen getMainMenu() {
+        if (mainMenuScreen == null) {
+            Gdx.app.log("ScreenRegistry", "Creating MainMenuScreen");
+            mainMenuScreen = new MainMenuScreen(game);
+        }
+        return mainMenuScreen;
+    }
+
+    public CharacterSelectionScreen getCharacterSelection(String username) {
+        if (characterSelectionScreen == null) {
+            Gdx.app.log("ScreenRegistry", "Creating CharacterSelectionScreen");
+            characterSelectionScreen = new CharacterSelectionScreen(game, username);
+        } else {
+            characterSelectionScreen.setUsername(username);
+        }
+        return characterSelectionScreen;
+    }
+
+    public GameOverScreen getGameOver(boolean playerWon, int finalScore, int kills, String username) {
+        if (gameOverScreen == null) {
+            Gdx.app.log("ScreenRegistry", "Creating GameOverScreen");
+            gameOverScreen = new GameOverScreen(game, playerWon, finalScore, kills, username);
+        } else {
+            gameOverScreen.setResult(playerWon, finalScore, kills, username);
+        }
+        return gameOverScreen;
+    }
+
+    // True for screens owned (and disposed) by the registry
+    public boolean isCached(Screen screen) {
+        return screen != null && (screen == mainMenuScreen || screen == characterSelectionScreen || screen == gameOverScreen);
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("ScreenRegistry", "Disposing cached screens");
+        if (mainMenuScreen != null) { mainMenuScreen.dispose(); mainMenuScreen = null; }
+        if (characterSelectionScreen != null) { characterSelectionScreen.dispose(); characterSelectionScreen = null; }
+        if (gameOverScreen != null) { gameOverScreen.dispose(); gameOverScreen = null; }
+    }
+}
@@ -0,0 +1,123 @@
+package com.has.mt.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+
+/**
+ * Label for a static prefix followed by a number (optionally "value/max"), e.g. "Score: 1200".
+ * The prefix and digit layouts come from UiFonts' caches, so a changed value only appends
+ * prebuilt glyph runs to a font cache: no String building and no text layout.
+ * Nothing is rebuilt while the value stays the same.
+ */
+public class CounterLabel extends Widget {
+    private final UiFonts fonts;
+    private final BitmapFontCache cache;
+    private final GlyphLayout prefixLayout;
+    private final GlyphLayout slashLayout;
+    private final Color fontColor = new Color(Color.WHITE);
+    private final Color drawColor = new Color();
+    private final int[] digitBuffer = new int[10];
+
+    private int value;
+    private int maxValue;
+    private boolean showMax = false;
+    private boolean dirty = true;
+    private float textWidth = 0f;
+
+    public CounterLabel(UiFonts fonts, String prefix) {
+        this.fonts = fonts;
+        BitmapFont font = fonts.getFont();
+        this.cache = font.newFontCache();
+        this.prefixLayout = fonts.getLayout(prefix != null ? prefix : "");
+        this.slashLayout = fonts.getLayout("/");
+        setSize(getPrefWidth(), getPrefHeight());
+    }
+
+    public void setValue(int value) {
+        if (!dirty && !showMax && this.value == value) return; // Unchanged, keep cached glyphs
+        this.value = value;
+        this.showMax = false;
+        markDirty();
+    }
+
+    public void setValue(int value, int maxValue) {
+        if (!dirty && showMax && this.value == value && this.maxValue == maxValue) return;
+        this.value = value;
+        this.maxValue = maxValue;
+        this.showMax = true;
+        markDirty();
+    }
+
+    public void setFontColor(Color color) {
+        if (color != null) fontColor.set(color);
+    }
+
+    private void markDirty() {
+        dirty = true;
+        invalidateHierarchy(); // Width may change with the digit count
+    }
+
+    private void rebuild() {
+        if (!dirty) return;
+        dirty = false;
+        cache.clear();
+        cache.setColor(Color.WHITE); // Tinted at draw time
+        cache.addText(prefixLayout, 0, 0);
+        float x = appendNumber(value, prefixLayout.width);
+        if (showMax) {
+            cache.addText(slashLayout, x, 0);
+            x = appendNumber(maxValue, x + slashLayout.width);
+        }
+        textWidth = x;
+    }
+
+    private float appendNumber(int number, float x) {
+        if (number < 0) {
+            GlyphLayout minus = fonts.getLayout("-");
+            cache.addText(minus, x, 0);
+            x += minus.width;
+            number = -number;
+        }
+        int count = 0;
+        do {
+            digitBuffer[count++] = number % 10;
+            number /= 10;
+        } while (number > 0 && count < digitBuffer.length);
+        for (int i = count - 1; i >= 0; i--) {
+            int digit = digitBuffer[i];
+            cache.addText(fonts.getDigitLayout(digit), x, 0);
+            x += fonts.getDigitAdvance(digit);
+        }
+        return x;
+    }
+
+    @Override
+    public float getPrefWidth() {
+        rebuild();
+        return textWidth;
+    }
+
+    @Override
+    public float getPrefHeight() {
+        BitmapFont font = fonts.getFont();
+        return font.getCapHeight() - font.getDescent() * 2; // Same box a single-line Label uses
+    }
+
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        validate();
+        rebuild();
+        BitmapFont font = fonts.getFont();
+        // Text is added with its top at y=0, so move the cache to the vertical centre of the widget
+        float y = getY() + (getHeight() + font.getCapHeight()) / 2f;
+        cache.setPosition(getX(), y);
+        drawColor.set(fontColor).mul(getColor());
+        drawColor.a *= parentAlpha;
+        cache.tint(drawColor);
+        cache.draw(batch);
+    }
+}
@@ -1,4 +1,256 @@
 package com.has.mt.ui;
 
-public class GameHUD {
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+import com.has.mt.GameConfig;
+import com.has.mt.components.HealthComponent;
+import com.has.mt.gameobjects.Player;
+
+/**
+ * Retained in-game HUD. The widgets are built once and only touched when the value they show
+ * has changed, so on frames where health and score stay the same update() is a few int
+ * compares. Text for Labels is formatted into one reused StringBuilder.
+ * Also shows floating damage numbers, taken from a fixed-size actor pool.
+ */
+public class GameHUD implements Disposable {
+
+    private static final Color PLAYER_DAMAGE_COLOR = new Color(1f, 0.3f, 0.3f, 1f);
+    private static final Color ENEMY_DAMAGE_COLOR = new Color(1f, 0.95f, 0.6f, 1f);
+
+    private final Skin skin;
+    private final UiFonts uiFonts; // Optional, enables CounterLabel for the changing numbers
+    private final StringBuilder textBuffer = new StringBuilder();
+
+    private Table hudTable;
+    private Group damageLayer; // Floating numbers, drawn above the HUD table
+    private ProgressBar healthBar;
+    private Label healthLabel;
+    private Label scoreLabel;
+    private CounterLabel scoreCounter;
+    private CounterLabel healthCounter; // Text HP, only used when the bar style is missing
+
+    // Values currently on screen; MIN_VALUE forces the first update through
+    private int shownHealth = Integer.MIN_VALUE;
+    private int shownMaxHealth = Integer.MIN_VALUE;
+    private int shownScore = Integer.MIN_VALUE;
+    private Color shownHealthColor;
+
+    private static class DamageNumber implements Pool.Poolable {
+        final Actor actor;
+        final CounterLabel counter; // One of counter/label is set
+        final Label label;
+        float worldX, worldY, age;
+
+        DamageNumber(CounterLabel counter, Label label) {
+            this.counter = counter;
+            this.label = label;
+            this.actor = counter != null ? counter : label;
+            actor.setTouchable(Touchable.disabled);
+        }
+
+        @Override
+        public void reset() {
+            actor.remove();
+            age = 0f;
+        }
+    }
+
+    private final Array<DamageNumber> activeNumbers = new Array<>(false, GameConfig.MAX_DAMAGE_NUMBERS);
+    private final Pool<DamageNumber> numberPool;
+
+    public GameHUD(Skin skin, UiFonts uiFonts) {
+        this.skin = skin;
+        this.uiFonts = uiFonts;
+        this.numberPool = new Pool<DamageNumber>(GameConfig.MAX_DAMAGE_NUMBERS, GameConfig.MAX_DAMAGE_NUMBERS) {
+            @Override
+            protected DamageNumber newObject() {
+                if (GameHUD.this.uiFonts != null) return new DamageNumber(new CounterLabel(GameHUD.this.uiFonts, ""), null);
+                return new DamageNumber(null, new Label("", GameHUD.this.skin));
+            }
+        };
+    }
+
+    // Builds the widgets and adds them to the stage
+    public void build(Stage stage, Player player, String username) {
+        hudTable = new Table();
+        hudTable.top().left(); // Position HUD at top-left
+        hudTable.setFillParent(true);
+        hudTable.pad(GameConfig.UI_PADDING);
+
+        // Username Label (Top Left)
+        Label usernameLabel = new Label("Player: " + (username != null ? username : "Unknown"), skin);
+
+        // Health Label & Bar
+        healthLabel = new Label("HP:", skin);
+        // Ensure progress bar style exists in skin
+        try {
+            if (skin.has("default-horizontal", ProgressBar.ProgressBarStyle.class)) {
+                healthBar = new ProgressBar(0f, 1f, 0.01f, false, skin); // Use default style name
+            } else {
+                Gdx.app.error("GameHUD", "ProgressBar style 'default-horizontal' not found in skin!");
+                healthBar = null; // Set to null if style missing
+            }
+        } catch (Exception e) {
+            Gdx.app.error("GameHUD", "Failed to create ProgressBar", e);
+            healthBar = null; // Set to null if creation failed
+        }
+
+        // Layouting the HUD
+        Table topLeftTable = new Table();
+        topLeftTable.add(usernameLabel).left().row();
+        topLeftTable.add(healthLabel).left().padRight(5);
+        if (healthBar != null) { // Only add if created successfully
+            topLeftTable.add(healthBar).width(250).height(25).left(); // Adjust size
+        } else if (uiFonts != null) {
+            healthLabel.setText(""); // Counter carries its own "HP: " prefix
+            healthCounter = new CounterLabel(uiFonts, "HP: ");
+            topLeftTable.add(healthCounter).left();
+        }
+        // Without bar or counter the "HP: x/y" text goes into healthLabel itself
+
+        hudTable.add(topLeftTable).expandX().left(); // Push username/health to left
+        if (uiFonts != null) {
+            scoreCounter = new CounterLabel(uiFonts, "Score: "); // Numeric fast path, no per-frame string/layout
+            hudTable.add(scoreCounter).expandX().right().padRight(GameConfig.UI_PADDING);
+        } else {
+            scoreLabel = new Label("", skin);
+            hudTable.add(scoreLabel).expandX().right().padRight(GameConfig.UI_PADDING); // Push score to right with padding
+        }
+        hudTable.row(); // End of top row
+
+        damageLayer = new Group();
+        damageLayer.setTouchable(Touchable.disabled);
+
+        stage.addActor(hudTable);
+        stage.addActor(damageLayer);
+        update(player, 0);
+        Gdx.app.log("GameHUD", "HUD built.");
+    }
+
+    // Pushes health and score to the widgets, but only the ones whose value changed
+    public void update(Player player, int score) {
+        if (hudTable == null || player == null || player.healthComponent == null) return; // Safety check
+        HealthComponent health = player.healthComponent;
+        int current = health.getCurrentHealth();
+        int max = health.getMaxHealth();
+        if (current != shownHealth || max != shownMaxHealth) {
+            shownHealth = current;
+            shownMaxHealth = max;
+            applyHealth(health.getHealthPercentage(), current, max);
+        }
+        if (score != shownScore) {
+            shownScore = score;
+            if (scoreCounter != null) {
+                scoreCounter.setValue(score);
+            } else if (scoreLabel != null) {
+                textBuffer.setLength(0);
+                textBuffer.append("Score: ").append(score);
+                scoreLabel.setText(textBuffer);
+            }
+        }
+    }
+
+    private void applyHealth(float healthPercent, int current, int max) {
+        if (healthBar != null) {
+            healthBar.setValue(healthPercent);
+            Color color = healthPercent > 0.6f ? Color.GREEN : (healthPercent > 0.3f ? Color.ORANGE : Color.RED);
+            if (color != shownHealthColor) {
+                shownHealthColor = color;
+                healthBar.setColor(color);
+            }
+        } else if (healthCounter != null) {
+            healthCounter.setValue(current, max);
+        } else if (healthLabel != null) {
+            // Update text label if bar doesn't exist
+            textBuffer.setLength(0);
+            textBuffer.append("HP: ").append(current).append('/').append(max);
+            healthLabel.setText(textBuffer);
+        }
+    }
+
+    /**
+     * Starts a floating number at a world position (usually above the target's head).
+     * When every pooled number is in use the oldest one is recycled.
+     */
+    public void showDamage(float worldX, float worldY, int amount, boolean playerHurt) {
+        if (damageLayer == null || amount <= 0) return;
+        if (activeNumbers.size >= GameConfig.MAX_DAMAGE_NUMBERS) {
+            numberPool.free(activeNumbers.removeIndex(0));
+        }
+        DamageNumber number = numberPool.obtain();
+        number.worldX = worldX;
+        number.worldY = worldY;
+        number.age = 0f;
+        if (number.counter != null) {
+            number.counter.setValue(amount);
+        } else {
+            textBuffer.setLength(0);
+            textBuffer.append(amount);
+            number.label.setText(textBuffer);
+        }
+        if (number.counter != null) number.counter.setSize(number.counter.getPrefWidth(), number.counter.getPrefHeight());
+        else number.label.setSize(number.label.getPrefWidth(), number.label.getPrefHeight());
+        number.actor.setColor(playerHurt ? PLAYER_DAMAGE_COLOR : ENEMY_DAMAGE_COLOR);
+        damageLayer.addActor(number.actor);
+        activeNumbers.add(number);
+    }
+
+    /**
+     * Moves the damage numbers up and fades them out. World positions are mapped to the UI
+     * through the world camera; both viewports are V_WIDTH x V_HEIGHT, so only the camera
+     * offset (and zoom) differs.
+     */
+    public void updateDamageNumbers(float delta, OrthographicCamera worldCamera) {
+        if (activeNumbers.size == 0 || worldCamera == null) return;
+        float lifetime = GameConfig.DAMAGE_NUMBER_LIFETIME;
+        for (int i = activeNumbers.size - 1; i >= 0; i--) {
+            DamageNumber number = activeNumbers.get(i);
+            number.age += delta;
+            if (number.age >= lifetime) {
+                activeNumbers.removeIndex(i);
+                numberPool.free(number); // reset() takes it off the stage
+                continue;
+            }
+            float t = number.age / lifetime;
+            float uiX = (number.worldX - worldCamera.position.x) / worldCamera.zoom + GameConfig.V_WIDTH / 2f;
+            float uiY = (number.worldY - worldCamera.position.y) / worldCamera.zoom + GameConfig.V_HEIGHT / 2f
+                + t * GameConfig.DAMAGE_NUMBER_RISE;
+            number.actor.setPosition(uiX, uiY, Align.center);
+            number.actor.getColor().a = 1f - t * t; // Stay solid for most of the rise
+        }
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("GameHUD", "Disposing HUD");
+        numberPool.freeAll(activeNumbers);
+        activeNumbers.clear();
+        numberPool.clear();
+        if (hudTable != null) {
+            hudTable.remove();
+            hudTable = null;
+        }
+        if (damageLayer != null) {
+            damageLayer.remove();
+            damageLayer = null;
+        }
+        healthBar = null;
+        healthLabel = null;
+        scoreLabel = null;
+        scoreCounter = null;
+        healthCounter = null;
+    }
 }
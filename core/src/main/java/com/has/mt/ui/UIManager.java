@@ -1,10 +1,9 @@
 package com.has.mt.ui;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*; // Import UI classes
-import com.badlogic.gdx.utils.Align; // Import Align
 import com.badlogic.gdx.utils.Disposable;
 import com.has.mt.AssetLoader;
 import com.has.mt.GameConfig;
@@ -18,13 +17,15 @@ public class UIManager implements Disposable {
     private Skin skin;
 
     // HUD Elements
-    private Table hudTable;
-    private ProgressBar healthBar;
-    private Label healthLabel;
-    private Label scoreLabel;
-    private Label usernameLabel;
+    private GameHUD hud; // Retained widgets and damage numbers, null until createHUD()
+    private UiFonts uiFonts; // Optional, enables CounterLabel for the changing numbers
 
 
+    public UIManager(AssetLoader assetLoader, Stage stage, UiFonts uiFonts) {
+        this(assetLoader, stage);
+        this.uiFonts = uiFonts;
+    }
+
     public UIManager(AssetLoader assetLoader, Stage stage) {
         if (stage == null) {
             throw new GameLogicException(GameExceptionMessages.NULL_DEPENDENCY, "Stage in UIManager constructor");
@@ -57,95 +58,33 @@ public class UIManager implements Disposable {
             return;
         }
         Gdx.app.log("UIManager", "Creating HUD for user: " + username);
-
-        hudTable = new Table();
-        hudTable.top().left(); // Position HUD at top-left
-        hudTable.setFillParent(true);
-        hudTable.pad(GameConfig.UI_PADDING);
-
-        // Username Label (Top Left)
-        usernameLabel = new Label("Player: " + (username != null ? username : "Unknown"), skin);
-
-        // Health Label & Bar
-        healthLabel = new Label("HP:", skin);
-        // Ensure progress bar style exists in skin
-        try {
-            // --- CHANGE START: Check if style exists before creating ---
-            if (skin.has("default-horizontal", ProgressBar.ProgressBarStyle.class)) {
-                healthBar = new ProgressBar(0f, 1f, 0.01f, false, skin); // Use default style name
-                healthBar.setValue(player.healthComponent.getHealthPercentage());
-                healthBar.setColor(Color.GREEN); // Initial color
-            } else {
-                Gdx.app.error("UIManager", "ProgressBar style 'default-horizontal' not found in skin!");
-                healthBar = null; // Set to null if style missing
-            }
-            // --- CHANGE END ---
-        } catch (Exception e) {
-            Gdx.app.error("UIManager", "Failed to create ProgressBar", e);
-            healthBar = null; // Set to null if creation failed
-        }
-
-        // Score Label (Top Right)
-        scoreLabel = new Label("Score: 0", skin);
-
-
-        // Layouting the HUD
-        Table topLeftTable = new Table();
-        topLeftTable.add(usernameLabel).left().row();
-        topLeftTable.add(healthLabel).left().padRight(5);
-        if (healthBar != null) { // Only add if created successfully
-            topLeftTable.add(healthBar).width(250).height(25).left(); // Adjust size
-        } else {
-            topLeftTable.add(new Label(String.format("%d / %d", player.healthComponent.getCurrentHealth(), player.healthComponent.getMaxHealth()), skin)).left(); // Show text HP if bar fails
-        }
-
-
-        hudTable.add(topLeftTable).expandX().left(); // Push username/health to left
-        hudTable.add(scoreLabel).expandX().right().padRight(GameConfig.UI_PADDING); // Push score to right with padding
-        hudTable.row(); // End of top row
-
-
-        stage.addActor(hudTable);
+        if (hud != null) hud.dispose();
+        hud = new GameHUD(skin, uiFonts);
+        hud.build(stage, player, username);
         Gdx.app.log("UIManager", "HUD created and added to stage.");
     }
 
 
-    // Update HUD elements based on player state and score
+    // Update HUD elements based on player state and score (widgets only change when the values do)
     public void updateHUD(Player player, int score) {
-        if (player == null || player.healthComponent == null) return; // Safety check
-
-        // Update Health Bar (or label if bar failed)
-        if (healthBar != null) {
-            float healthPercent = player.healthComponent.getHealthPercentage();
-            healthBar.setValue(healthPercent);
-
-            // --- Color Change Logic ---
-            if (healthPercent > 0.6f) healthBar.setColor(Color.GREEN);
-            else if (healthPercent > 0.3f) healthBar.setColor(Color.ORANGE);
-            else healthBar.setColor(Color.RED);
-            // --- End Color Change ---
+        if (hud != null) hud.update(player, score);
+    }
 
-        } else if (healthLabel != null) {
-            // Update text label if bar doesn't exist
-            healthLabel.setText(String.format("HP: %d/%d", player.healthComponent.getCurrentHealth(), player.healthComponent.getMaxHealth()));
-        }
+    // Advances the floating damage numbers; world positions are read through the game camera
+    public void updateDamageNumbers(float delta, OrthographicCamera worldCamera) {
+        if (hud != null) hud.updateDamageNumbers(delta, worldCamera);
+    }
 
-        // Update Score Label
-        if (scoreLabel != null) {
-            scoreLabel.setText("Score: " + score);
-        }
+    public GameHUD getHUD() {
+        return hud;
     }
 
     @Override
     public void dispose() {
         Gdx.app.log("UIManager", "Disposing HUD resources");
-        if (hudTable != null) {
-            hudTable.remove();
-            hudTable = null;
+        if (hud != null) {
+            hud.dispose();
+            hud = null;
         }
-        healthBar = null;
-        healthLabel = null;
-        scoreLabel = null;
-        usernameLabel = null;
     }
 }
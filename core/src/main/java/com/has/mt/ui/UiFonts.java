@@ -0,0 +1,343 @@
+package com.has.mt.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.ui.List;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.SelectBox;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.scenes.scene2d.ui.TextField;
+import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.has.mt.AssetLoader;
+import com.has.mt.GameConfig;
+
+/**
+ * Shared UI font. At startup the glyphs of the UI font (a TTF through FreeType if one is
+ * present, otherwise the skin's bitmap font) are re-packed with padding into a
+ * signed-distance-field atlas, so text stays sharp at any window size. Also caches
+ * GlyphLayouts for static strings and one layout per digit for fast counters.
+ * If the distance field can't be built, the skin's bitmap font is used unchanged.
+ */
+public class UiFonts implements Disposable {
+
+    private static final String SKIN_FONT_NAME = "default-font";
+    private static final int ATLAS_WIDTH = 512;
+    private static final int GLYPH_GAP = 1; // Empty texels between packed glyph cells
+
+    private final BitmapFont font;
+    private final boolean distanceField;
+    private final ShaderProgram shader; // null when the font is a plain bitmap font
+    private Texture atlasTexture; // Owned only when we generated it
+    private final ObjectMap<String, GlyphLayout> layoutCache = new ObjectMap<>();
+    private final GlyphLayout[] digitLayouts = new GlyphLayout[10];
+    private final float[] digitAdvances = new float[10];
+
+    private UiFonts(BitmapFont font, Texture atlasTexture, ShaderProgram shader) {
+        this.font = font;
+        this.atlasTexture = atlasTexture;
+        this.shader = shader;
+        this.distanceField = font instanceof DistanceFieldFont && shader != null;
+        for (int d = 0; d < 10; d++) {
+            char c = (char) ('0' + d);
+            digitLayouts[d] = new GlyphLayout(font, String.valueOf(c));
+            BitmapFont.Glyph glyph = font.getData().getGlyph(c);
+            digitAdvances[d] = glyph != null ? glyph.xadvance * font.getData().scaleX : digitLayouts[d].width;
+        }
+    }
+
+    /** Builds the UI font. Never returns null; falls back to the skin font on any failure. */
+    public static UiFonts create(AssetLoader assetLoader, Skin skin) {
+        BitmapFont skinFont = (skin != null && skin.has(SKIN_FONT_NAME, BitmapFont.class)) ? skin.getFont(SKIN_FONT_NAME) : null;
+        if (!GameConfig.UI_DISTANCE_FIELD_FONT) {
+            Gdx.app.log("UiFonts", "Distance field font disabled, using skin bitmap font.");
+            return new UiFonts(skinFont != null ? skinFont : new BitmapFont(), null, null);
+        }
+
+        ShaderProgram shader = null;
+        try {
+            shader = DistanceFieldFont.createDistanceFieldShader();
+            UiFonts fonts = null;
+            FileHandle ttf = Gdx.files.internal(AssetLoader.UI_FONT_TTF_PATH);
+            if (assetLoader != null && assetLoader.manifest.contains(AssetLoader.UI_FONT_TTF_PATH)) {
+                fonts = fromTrueType(ttf, shader);
+            }
+            if (fonts == null && skinFont != null) {
+                fonts = fromBitmapFont(skinFont, shader);
+            }
+            if (fonts != null) return fonts;
+        } catch (Exception e) {
+            Gdx.app.error("UiFonts", "Failed to build distance field font, using skin bitmap font", e);
+        }
+        if (shader != null) shader.dispose();
+        return new UiFonts(skinFont != null ? skinFont : new BitmapFont(), null, null);
+    }
+
+    // Rasterises the TTF with FreeType into our own packer so the page pixmaps stay readable
+    private static UiFonts fromTrueType(FileHandle ttf, ShaderProgram shader) {
+        Gdx.app.log("UiFonts", "Generating distance field font from " + ttf.path());
+        FreeTypeFontGenerator generator = null;
+        PixmapPacker packer = new PixmapPacker(1024, 1024, Pixmap.Format.RGBA8888, 2, false);
+        try {
+            generator = new FreeTypeFontGenerator(ttf);
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = GameConfig.UI_FONT_SOURCE_SIZE;
+            parameter.color = Color.WHITE;
+            parameter.packer = packer;
+            BitmapFont source = generator.generateFont(parameter);
+
+            Array<Pixmap> pages = new Array<>();
+            for (PixmapPacker.Page page : packer.getPages()) pages.add(page.getPixmap());
+            UiFonts fonts = buildDistanceField(source.getData(), pages, new int[pages.size], new int[pages.size], shader);
+            // Same on-screen size as the bitmap font the skin was laid out with
+            fonts.font.getData().setScale(GameConfig.UI_FONT_SIZE / (float) GameConfig.UI_FONT_SOURCE_SIZE);
+            fonts.rebuildDigitLayouts();
+            return fonts;
+        } catch (Exception e) {
+            Gdx.app.error("UiFonts", "FreeType generation failed for " + ttf.path(), e);
+            return null;
+        } finally {
+            if (generator != null) generator.dispose();
+            for (PixmapPacker.Page page : packer.getPages()) {
+                if (page.getTexture() != null) page.getTexture().dispose(); // Also disposes the page pixmap
+                else page.getPixmap().dispose();
+            }
+        }
+    }
+
+    // Reads the skin font's glyphs back from its atlas image file
+    private static UiFonts fromBitmapFont(BitmapFont skinFont, ShaderProgram shader) {
+        Array<TextureRegion> regions = skinFont.getRegions();
+        Array<Pixmap> pages = new Array<>();
+        int[] offsetX = new int[regions.size];
+        int[] offsetY = new int[regions.size];
+        try {
+            for (int i = 0; i < regions.size; i++) {
+                TextureRegion region = regions.get(i);
+                if (!(region.getTexture().getTextureData() instanceof FileTextureData)) {
+                    Gdx.app.error("UiFonts", "Skin font page " + i + " is not file backed, cannot read glyph pixels.");
+                    return null;
+                }
+                FileHandle file = ((FileTextureData) region.getTexture().getTextureData()).getFileHandle();
+                pages.add(new Pixmap(file));
+                offsetX[i] = region.getRegionX();
+                offsetY[i] = region.getRegionY();
+            }
+            Gdx.app.log("UiFonts", "Generating distance field font from skin font '" + SKIN_FONT_NAME + "'");
+            // Parse a private copy of the glyph data; the skin's font keeps its own
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData(skinFont.getData().getFontFile(), skinFont.getData().flipped);
+            return buildDistanceField(data, pages, offsetX, offsetY, shader);
+        } finally {
+            for (Pixmap pixmap : pages) pixmap.dispose();
+        }
+    }
+
+    /**
+     * Copies every glyph into its own padded cell of a new atlas, replacing its coverage with a
+     * signed distance (0.5 on the edge, towards 1 inside, towards 0 outside, clamped at the spread).
+     * Glyph rectangles and offsets are grown by the spread so layout is unchanged.
+     */
+    private static UiFonts buildDistanceField(BitmapFont.BitmapFontData data, Array<Pixmap> pages, int[] offsetX, int[] offsetY, ShaderProgram shader) {
+        int spread = GameConfig.UI_SDF_SPREAD;
+
+        // Gather glyphs and lay out cells on shelves
+        Array<BitmapFont.Glyph> glyphs = new Array<>();
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph != null && glyph.width > 0 && glyph.height > 0) glyphs.add(glyph);
+            }
+        }
+        int[] cellX = new int[glyphs.size];
+        int[] cellY = new int[glyphs.size];
+        int x = GLYPH_GAP, y = GLYPH_GAP, shelfHeight = 0;
+        for (int i = 0; i < glyphs.size; i++) {
+            BitmapFont.Glyph glyph = glyphs.get(i);
+            int w = glyph.width + spread * 2, h = glyph.height + spread * 2;
+            if (x + w + GLYPH_GAP > ATLAS_WIDTH) {
+                x = GLYPH_GAP;
+                y += shelfHeight + GLYPH_GAP;
+                shelfHeight = 0;
+            }
+            cellX[i] = x;
+            cellY[i] = y;
+            x += w + GLYPH_GAP;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+        int atlasHeight = MathUtils.nextPowerOfTwo(y + shelfHeight + GLYPH_GAP);
+
+        Pixmap atlas = new Pixmap(ATLAS_WIDTH, atlasHeight, Pixmap.Format.RGBA8888);
+        atlas.setBlending(Pixmap.Blending.None);
+        atlas.setColor(1, 1, 1, 0);
+        atlas.fill();
+        for (int i = 0; i < glyphs.size; i++) {
+            BitmapFont.Glyph glyph = glyphs.get(i);
+            Pixmap source = pages.get(glyph.page);
+            writeDistanceField(source, offsetX[glyph.page] + glyph.srcX, offsetY[glyph.page] + glyph.srcY,
+                glyph.width, glyph.height, atlas, cellX[i], cellY[i], spread);
+
+            // Point the glyph at its padded cell
+            glyph.srcX = cellX[i];
+            glyph.srcY = cellY[i];
+            glyph.width += spread * 2;
+            glyph.height += spread * 2;
+            glyph.xoffset -= spread;
+            glyph.yoffset -= spread;
+            glyph.page = 0;
+        }
+        // Whitespace glyphs have no pixels but still need a valid page
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) if (glyph != null) glyph.page = 0;
+        }
+        if (data.missingGlyph != null) data.missingGlyph.page = 0;
+        // Declare the added border as padding so GlyphLayout widths ignore it
+        data.padLeft += spread;
+        data.padRight += spread;
+        data.padTop += spread;
+        data.padBottom += spread;
+
+        Texture texture = new Texture(atlas);
+        atlas.dispose();
+        DistanceFieldFont font = new DistanceFieldFont(data, new TextureRegion(texture), false);
+        font.setDistanceFieldSmoothing(spread);
+        Gdx.app.log("UiFonts", "Distance field atlas " + ATLAS_WIDTH + "x" + atlasHeight + " with " + glyphs.size + " glyphs.");
+        return new UiFonts(font, texture, shader);
+    }
+
+    // Brute-force signed distance within the spread window; glyphs are small so this stays cheap
+    private static void writeDistanceField(Pixmap source, int srcX, int srcY, int width, int height,
+                                           Pixmap target, int dstX, int dstY, int spread) {
+        boolean[] inside = new boolean[width * height];
+        for (int j = 0; j < height; j++) {
+            for (int i = 0; i < width; i++) {
+                int alpha = source.getPixel(srcX + i, srcY + j) & 0xff;
+                inside[j * width + i] = alpha >= 128;
+            }
+        }
+
+        int cellWidth = width + spread * 2, cellHeight = height + spread * 2;
+        float maxDistance = spread + 1f;
+        for (int cy = 0; cy < cellHeight; cy++) {
+            for (int cx = 0; cx < cellWidth; cx++) {
+                int gx = cx - spread, gy = cy - spread; // Glyph-space position
+                boolean in = gx >= 0 && gy >= 0 && gx < width && gy < height && inside[gy * width + gx];
+                float nearestSq = maxDistance * maxDistance;
+                for (int oy = -spread; oy <= spread; oy++) {
+                    int sy = gy + oy;
+                    for (int ox = -spread; ox <= spread; ox++) {
+                        int sx = gx + ox;
+                        boolean otherIn = sx >= 0 && sy >= 0 && sx < width && sy < height && inside[sy * width + sx];
+                        if (otherIn != in) {
+                            float distSq = ox * ox + oy * oy;
+                            if (distSq < nearestSq) nearestSq = distSq;
+                        }
+                    }
+                }
+                // The edge lies half a texel before the nearest opposite texel
+                float distance = (float) Math.sqrt(nearestSq) - 0.5f;
+                float signed = in ? distance : -distance;
+                float value = MathUtils.clamp(0.5f + signed / (2f * spread), 0f, 1f);
+                target.drawPixel(dstX + cx, dstY + cy, Color.rgba8888(1f, 1f, 1f, value));
+            }
+        }
+    }
+
+    private void rebuildDigitLayouts() {
+        for (int d = 0; d < 10; d++) {
+            char c = (char) ('0' + d);
+            digitLayouts[d].setText(font, String.valueOf(c));
+            BitmapFont.Glyph glyph = font.getData().getGlyph(c);
+            digitAdvances[d] = glyph != null ? glyph.xadvance * font.getData().scaleX : digitLayouts[d].width;
+        }
+        layoutCache.clear();
+    }
+
+    /** Replaces the skin's default font in every style that uses it. Call once after the skin loads. */
+    public void applyToSkin(Skin skin) {
+        if (skin == null || !skin.has(SKIN_FONT_NAME, BitmapFont.class)) return; // Safety check
+        BitmapFont old = skin.getFont(SKIN_FONT_NAME);
+        if (old == font) return;
+        int replaced = 0;
+        ObjectMap<String, Label.LabelStyle> labels = skin.getAll(Label.LabelStyle.class);
+        if (labels != null) for (Label.LabelStyle s : labels.values()) if (s.font == old) { s.font = font; replaced++; }
+        ObjectMap<String, TextButton.TextButtonStyle> buttons = skin.getAll(TextButton.TextButtonStyle.class);
+        if (buttons != null) for (TextButton.TextButtonStyle s : buttons.values()) if (s.font == old) { s.font = font; replaced++; }
+        ObjectMap<String, TextField.TextFieldStyle> fields = skin.getAll(TextField.TextFieldStyle.class);
+        if (fields != null) for (TextField.TextFieldStyle s : fields.values()) {
+            if (s.font == old) { s.font = font; replaced++; }
+            if (s.messageFont == old) s.messageFont = font;
+        }
+        ObjectMap<String, List.ListStyle> lists = skin.getAll(List.ListStyle.class);
+        if (lists != null) for (List.ListStyle s : lists.values()) if (s.font == old) { s.font = font; replaced++; }
+        ObjectMap<String, SelectBox.SelectBoxStyle> selects = skin.getAll(SelectBox.SelectBoxStyle.class);
+        if (selects != null) for (SelectBox.SelectBoxStyle s : selects.values()) if (s.font == old) { s.font = font; replaced++; }
+        ObjectMap<String, Window.WindowStyle> windows = skin.getAll(Window.WindowStyle.class);
+        if (windows != null) for (Window.WindowStyle s : windows.values()) if (s.titleFont == old) { s.titleFont = font; replaced++; }
+        Gdx.app.log("UiFonts", "Skin font replaced in " + replaced + " styles.");
+    }
+
+    /** Call when the UI viewport changes size; keeps distance field edges about one screen pixel wide. */
+    public void updateScreenScale(float screenPixelsPerUnit) {
+        if (distanceField && screenPixelsPerUnit > 0) {
+            ((DistanceFieldFont) font).setDistanceFieldSmoothing(GameConfig.UI_SDF_SPREAD * screenPixelsPerUnit);
+        }
+    }
+
+    /** Layout for a string that never changes (labels, prefixes). Built once, then reused. */
+    public GlyphLayout getLayout(String text) {
+        GlyphLayout layout = layoutCache.get(text);
+        if (layout == null) {
+            layout = new GlyphLayout(font, text);
+            layoutCache.put(text, layout);
+        }
+        return layout;
+    }
+
+    public GlyphLayout getDigitLayout(int digit) {
+        return digitLayouts[digit];
+    }
+
+    public float getDigitAdvance(int digit) {
+        return digitAdvances[digit];
+    }
+
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /** Shader the batch must use while drawing UI text; null for a plain bitmap font. */
+    public ShaderProgram getShader() {
+        return shader;
+    }
+
+    public boolean isDistanceField() {
+        return distanceField;
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("UiFonts", "Disposing UI fonts");
+        layoutCache.clear();
+        if (atlasTexture != null) {
+            atlasTexture.dispose(); // Skin font is owned by the skin, only our atlas is ours
+            atlasTexture = null;
+        }
+        if (shader != null) shader.dispose();
+    }
+}
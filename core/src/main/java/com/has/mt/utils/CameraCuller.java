@@ -0,0 +1,53 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.has.mt.GameConfig;
+
+/**
+ * Tracks the world-space rectangle currently visible through the game camera
+ * (plus a safety margin) so render loops can skip objects that are off-screen.
+ */
+public class CameraCuller {
+
+    private final Rectangle visibleArea = new Rectangle();
+    private float margin;
+
+    public CameraCuller() {
+        this(GameConfig.CULL_MARGIN);
+    }
+
+    public CameraCuller(float margin) {
+        this.margin = Math.max(0f, margin);
+    }
+
+    // Call once per frame after the camera has been updated
+    public void update(OrthographicCamera camera) {
+        if (camera == null) return; // Safety check
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        visibleArea.set(
+            camera.position.x - halfWidth - margin,
+            camera.position.y - halfHeight - margin,
+            (halfWidth + margin) * 2f,
+            (halfHeight + margin) * 2f);
+    }
+
+    public boolean isVisible(Rectangle bounds) {
+        if (bounds == null) return true; // Unknown size, don't cull
+        return isVisible(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    public boolean isVisible(float x, float y, float width, float height) {
+        return x <= visibleArea.x + visibleArea.width && x + width >= visibleArea.x
+            && y <= visibleArea.y + visibleArea.height && y + height >= visibleArea.y;
+    }
+
+    public Rectangle getVisibleArea() {
+        return visibleArea;
+    }
+
+    public void setMargin(float margin) {
+        this.margin = Math.max(0f, margin);
+    }
+}
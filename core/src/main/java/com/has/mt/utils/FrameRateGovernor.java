@@ -0,0 +1,92 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.has.mt.GameConfig;
+
+/**
+ * Decides how often the app renders. Gameplay renders continuously at the display rate;
+ * static UI screens switch libGDX to non-continuous rendering, so a frame is only drawn on
+ * input, running Stage actions or an explicit request. An unfocused window or paused game
+ * gets a lower FPS cap.
+ */
+public class FrameRateGovernor {
+
+    public enum Mode { GAMEPLAY, STATIC_UI }
+
+    private Mode mode = Mode.GAMEPLAY;
+    private boolean windowFocused = true;
+    private boolean appPaused = false; // Minimised / backgrounded (ApplicationListener.pause)
+    private boolean gamePaused = false; // In-game pause
+
+    private int fullRateFps = -1; // Resolved from the display on first use
+    private boolean appliedContinuous = true;
+    private int appliedFps = -1;
+
+    public void setMode(Mode mode) {
+        if (mode == null || mode == this.mode) return;
+        this.mode = mode;
+        apply();
+    }
+
+    public void setWindowFocused(boolean focused) {
+        if (focused == windowFocused) return;
+        windowFocused = focused;
+        apply();
+    }
+
+    public void setAppPaused(boolean paused) {
+        if (paused == appPaused) return;
+        appPaused = paused;
+        apply();
+    }
+
+    public void setGamePaused(boolean paused) {
+        if (paused == gamePaused) return;
+        gamePaused = paused;
+        apply();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    // Pushes the current state to Gdx.graphics (only when something actually changed)
+    public void apply() {
+        if (!GameConfig.GOVERN_FRAME_RATE || Gdx.graphics == null) return;
+        if (fullRateFps < 0) {
+            int refreshRate = 0;
+            try {
+                refreshRate = Gdx.graphics.getDisplayMode().refreshRate;
+            } catch (Exception e) {
+                Gdx.app.error("FrameRateGovernor", "Could not read display refresh rate", e);
+            }
+            fullRateFps = refreshRate > 0 ? refreshRate + 1 : 0; // +1 matches the launcher, 0 = uncapped
+        }
+
+        boolean focused = windowFocused && !appPaused;
+        boolean continuous;
+        int fps;
+        if (mode == Mode.STATIC_UI) {
+            continuous = false; // Events still trigger frames, unfocused or not
+            fps = focused ? fullRateFps : GameConfig.UNFOCUSED_FPS;
+        } else if (!focused) {
+            continuous = true;
+            fps = GameConfig.UNFOCUSED_FPS;
+        } else if (gamePaused) {
+            continuous = true;
+            fps = GameConfig.PAUSED_FPS;
+        } else {
+            continuous = true;
+            fps = fullRateFps;
+        }
+
+        if (continuous == appliedContinuous && fps == appliedFps) return;
+        Gdx.app.log("FrameRateGovernor", mode + (focused ? "" : " (unfocused)") + (gamePaused ? " (paused)" : "")
+            + ": continuous=" + continuous + ", fps cap=" + (fps > 0 ? String.valueOf(fps) : "none"));
+        Gdx.graphics.setForegroundFPS(fps);
+        Gdx.graphics.setContinuousRendering(continuous);
+        Gdx.graphics.requestRendering(); // Draw the new state at least once
+        appliedContinuous = continuous;
+        appliedFps = fps;
+    }
+}
@@ -0,0 +1,433 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+
+import java.nio.IntBuffer;
+
+/**
+ * SpriteBatch replacement that keeps several textures bound at once. Every vertex carries
+ * the index of its texture slot and the shader picks the sampler from that, so switching
+ * between the background, floor, enemy and projectile sheets no longer forces a flush.
+ * The batch only flushes when all slots are taken, it runs out of vertex space, or
+ * blending/matrix/shader state changes.
+ * <p>
+ * Color, blending and shader handling are inherited from SpriteBatch; only the geometry
+ * and flush paths are replaced. With a custom shader set the batch falls back to one
+ * texture per draw call, since such shaders only sample u_texture.
+ */
+public class MultiTextureBatch extends SpriteBatch {
+
+    private static final int VERTEX_SIZE = 6; // x, y, color, u, v, texIndex
+    private static final int SPRITE_SIZE = 4 * VERTEX_SIZE;
+    private static final int MAX_TEXTURE_SLOTS = 8;
+    public static final String TEXINDEX_ATTRIBUTE = "a_texIndex";
+
+    private final Mesh mesh;
+    private final float[] vertices;
+    private int idx = 0;
+
+    private final ShaderProgram multiShader;
+    private final int maxSlots;
+    private final Texture[] slotTextures;
+    private final int[] slotUnits;
+    private final int texturesLocation;
+    private int slotCount = 0;
+    private final Matrix4 combined = new Matrix4();
+
+    // Stats since the last resetFrameStats(). Checked in game with GameConfig.DEBUG_LOG_BATCH_STATS,
+    // which logs them once a second; the project has no test source set to assert them headlessly.
+    private int frameFlushes = 0; // flush() calls, including ones with nothing pending
+    private int frameDrawCalls = 0; // glDrawElements issued
+    private int frameSlotFlushes = 0; // Flushes forced because every texture slot was in use
+    private int frameTextureBinds = 0;
+
+    public MultiTextureBatch() {
+        this(1000);
+    }
+
+    public MultiTextureBatch(int size) {
+        this(size, queryTextureSlots());
+    }
+
+    private MultiTextureBatch(int size, int slots) {
+        // The parent only keeps a 1-sprite mesh; its default shader slot holds ours so
+        // begin()/setShader() bind the right program.
+        super(1, createMultiTextureShader(slots));
+        if (size > 8191) throw new IllegalArgumentException("Can't have more than 8191 sprites per batch: " + size);
+
+        this.multiShader = super.getShader();
+        this.maxSlots = slots;
+        this.slotTextures = new Texture[slots];
+        this.slotUnits = new int[slots];
+        for (int i = 0; i < slots; i++) slotUnits[i] = i;
+        this.texturesLocation = multiShader.fetchUniformLocation("u_textures", false);
+
+        Mesh.VertexDataType dataType = (Gdx.gl30 != null) ? Mesh.VertexDataType.VertexBufferObjectWithVAO : Mesh.VertexDataType.VertexBufferObject;
+        mesh = new Mesh(dataType, false, size * 4, size * 6,
+            new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+            new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+            new VertexAttribute(Usage.Generic, 1, TEXINDEX_ATTRIBUTE));
+        vertices = new float[size * SPRITE_SIZE];
+
+        int len = size * 6;
+        short[] indices = new short[len];
+        short j = 0;
+        for (int i = 0; i < len; i += 6, j += 4) {
+            indices[i] = j;
+            indices[i + 1] = (short) (j + 1);
+            indices[i + 2] = (short) (j + 2);
+            indices[i + 3] = (short) (j + 2);
+            indices[i + 4] = (short) (j + 3);
+            indices[i + 5] = j;
+        }
+        mesh.setIndices(indices);
+        Gdx.app.log("MultiTextureBatch", "Created with " + slots + " texture slots, " + size + " sprites.");
+    }
+
+    private static int queryTextureSlots() {
+        IntBuffer buffer = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_IMAGE_UNITS, buffer);
+        return MathUtils.clamp(buffer.get(0), 1, MAX_TEXTURE_SLOTS);
+    }
+
+    // Builds a shader with one sampler per slot. GLSL ES 1.0 only allows constant sampler
+    // indices, so the lookup is an if-chain rather than u_textures[index].
+    static ShaderProgram createMultiTextureShader(int slots) {
+        String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "attribute float " + TEXINDEX_ATTRIBUTE + ";\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying float v_texIndex;\n"
+            + "void main()\n"
+            + "{\n"
+            + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "   v_color.a = v_color.a * (255.0/254.0);\n"
+            + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "   v_texIndex = " + TEXINDEX_ATTRIBUTE + ";\n"
+            + "   gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+        StringBuilder lookup = new StringBuilder();
+        for (int i = 0; i < slots - 1; i++) {
+            lookup.append("   ").append(i == 0 ? "if" : "else if").append(" (v_texIndex < ").append(i).append(".5) texel = texture2D(u_textures[")
+                .append(i).append("], v_texCoords);\n");
+        }
+        lookup.append("   ").append(slots > 1 ? "else " : "").append("texel = texture2D(u_textures[").append(slots - 1).append("], v_texCoords);\n");
+
+        String fragmentShader = "#ifdef GL_ES\n"
+            + "#define LOWP lowp\n"
+            + "precision mediump float;\n"
+            + "#else\n"
+            + "#define LOWP \n"
+            + "#endif\n"
+            + "varying LOWP vec4 v_color;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "varying float v_texIndex;\n"
+            + "uniform sampler2D u_textures[" + slots + "];\n"
+            + "void main()\n"
+            + "{\n"
+            + "   vec4 texel;\n"
+            + lookup
+            + "   gl_FragColor = v_color * texel;\n"
+            + "}";
+
+        ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+        if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling multi-texture shader: " + shader.getLog());
+        return shader;
+    }
+
+    private boolean usingCustomShader() {
+        return getShader() != multiShader;
+    }
+
+    @Override
+    protected void setupMatrices() {
+        combined.set(getProjectionMatrix()).mul(getTransformMatrix());
+        ShaderProgram shader = getShader();
+        shader.setUniformMatrix("u_projTrans", combined);
+        if (usingCustomShader()) {
+            shader.setUniformi("u_texture", 0);
+        } else {
+            Gdx.gl.glUniform1iv(texturesLocation, maxSlots, slotUnits, 0); // Sampler i reads texture unit i
+        }
+    }
+
+    @Override
+    public void end() {
+        if (!isDrawing()) throw new IllegalStateException("MultiTextureBatch.begin must be called before end.");
+        if (idx > 0) flush();
+        super.end();
+    }
+
+    // Returns the slot for the texture, flushing first if it needs a slot and none are free
+    // or the vertex buffer is full.
+    private float slotFor(Texture texture) {
+        if (!isDrawing()) throw new IllegalStateException("MultiTextureBatch.begin must be called before draw.");
+        if (idx == vertices.length) flush();
+        for (int i = 0; i < slotCount; i++) {
+            if (slotTextures[i] == texture) return i;
+        }
+        int limit = usingCustomShader() ? 1 : maxSlots;
+        if (slotCount >= limit) {
+            frameSlotFlushes++;
+            flush();
+        }
+        slotTextures[slotCount] = texture;
+        return slotCount++;
+    }
+
+    private void putVertex(float x, float y, float color, float u, float v, float slot) {
+        float[] vertices = this.vertices;
+        int idx = this.idx;
+        vertices[idx] = x;
+        vertices[idx + 1] = y;
+        vertices[idx + 2] = color;
+        vertices[idx + 3] = u;
+        vertices[idx + 4] = v;
+        vertices[idx + 5] = slot;
+        this.idx = idx + VERTEX_SIZE;
+    }
+
+    // Axis-aligned quad, same corner order as SpriteBatch (bottom-left, counter clockwise)
+    private void putQuad(Texture texture, float x, float y, float x2, float y2, float u, float v, float u2, float v2) {
+        float slot = slotFor(texture);
+        float color = getPackedColor();
+        putVertex(x, y, color, u, v, slot);
+        putVertex(x, y2, color, u, v2, slot);
+        putVertex(x2, y2, color, u2, v2, slot);
+        putVertex(x2, y, color, u2, v, slot);
+    }
+
+    // Rotated/scaled quad around an origin, matching SpriteBatch's corner math
+    private void putTransformedQuad(Texture texture, float x, float y, float originX, float originY, float width, float height,
+                                    float scaleX, float scaleY, float rotation,
+                                    float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+        float slot = slotFor(texture);
+        final float worldOriginX = x + originX;
+        final float worldOriginY = y + originY;
+        float fx = -originX * scaleX;
+        float fy = -originY * scaleY;
+        float fx2 = (width - originX) * scaleX;
+        float fy2 = (height - originY) * scaleY;
+
+        float x1, y1, x2, y2, x3, y3, x4, y4;
+        if (rotation != 0) {
+            final float cos = MathUtils.cosDeg(rotation);
+            final float sin = MathUtils.sinDeg(rotation);
+            x1 = cos * fx - sin * fy;
+            y1 = sin * fx + cos * fy;
+            x2 = cos * fx - sin * fy2;
+            y2 = sin * fx + cos * fy2;
+            x3 = cos * fx2 - sin * fy2;
+            y3 = sin * fx2 + cos * fy2;
+            x4 = x1 + (x3 - x2);
+            y4 = y3 - (y2 - y1);
+        } else {
+            x1 = fx; y1 = fy;
+            x2 = fx; y2 = fy2;
+            x3 = fx2; y3 = fy2;
+            x4 = fx2; y4 = fy;
+        }
+
+        float color = getPackedColor();
+        putVertex(x1 + worldOriginX, y1 + worldOriginY, color, u1, v1, slot);
+        putVertex(x2 + worldOriginX, y2 + worldOriginY, color, u2, v2, slot);
+        putVertex(x3 + worldOriginX, y3 + worldOriginY, color, u3, v3, slot);
+        putVertex(x4 + worldOriginX, y4 + worldOriginY, color, u4, v4, slot);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+                     float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) { float tmp = u; u = u2; u2 = tmp; }
+        if (flipY) { float tmp = v; v = v2; v2 = tmp; }
+        putTransformedQuad(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+                     int srcHeight, boolean flipX, boolean flipY) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) { float tmp = u; u = u2; u2 = tmp; }
+        if (flipY) { float tmp = v; v = v2; v2 = tmp; }
+        putQuad(texture, x, y, x + width, y + height, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        putQuad(texture, x, y, x + srcWidth, y + srcHeight,
+            srcX * invTexWidth, (srcY + srcHeight) * invTexHeight, (srcX + srcWidth) * invTexWidth, srcY * invTexHeight);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        putQuad(texture, x, y, x + width, y + height, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        draw(texture, x, y, texture.getWidth(), texture.getHeight());
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        putQuad(texture, x, y, x + width, y + height, 0, 1, 1, 0);
+    }
+
+    // Accepts SpriteBatch-format vertices (x, y, color, u, v per vertex), as used by
+    // BitmapFont caches, NinePatch and Sprite, and appends the slot index to each.
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        int sprites = count / 20;
+        for (int s = 0; s < sprites; s++) {
+            float slot = slotFor(texture);
+            for (int i = 0; i < 4; i++) {
+                int src = offset + s * 20 + i * 5;
+                putVertex(spriteVertices[src], spriteVertices[src + 1], spriteVertices[src + 2],
+                    spriteVertices[src + 3], spriteVertices[src + 4], slot);
+            }
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        putQuad(region.getTexture(), x, y, x + width, y + height, region.getU(), region.getV2(), region.getU2(), region.getV());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation) {
+        float u = region.getU(), v = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+        putTransformedQuad(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+            u, v, u, v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, boolean clockwise) {
+        float u = region.getU(), v = region.getV(), u2 = region.getU2(), v2 = region.getV2();
+        if (clockwise) {
+            putTransformedQuad(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                u2, v2, u, v2, u, v, u2, v);
+        } else {
+            putTransformedQuad(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                u, v, u2, v, u2, v2, u, v2);
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        float slot = slotFor(region.getTexture());
+        float color = getPackedColor();
+        float u = region.getU(), v = region.getV2(), u2 = region.getU2(), v2 = region.getV();
+        putVertex(transform.m02, transform.m12, color, u, v, slot);
+        putVertex(transform.m01 * height + transform.m02, transform.m11 * height + transform.m12, color, u, v2, slot);
+        putVertex(transform.m00 * width + transform.m01 * height + transform.m02,
+            transform.m10 * width + transform.m11 * height + transform.m12, color, u2, v2, slot);
+        putVertex(transform.m00 * width + transform.m02, transform.m10 * width + transform.m12, color, u2, v, slot);
+    }
+
+    @Override
+    public void flush() {
+        frameFlushes++;
+        if (idx == 0) return;
+
+        frameDrawCalls++;
+        renderCalls++;
+        totalRenderCalls++;
+        int spritesInBatch = idx / SPRITE_SIZE;
+        if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+        // Bind from the highest unit down so GL_TEXTURE0 is left active, as SpriteBatch leaves it
+        for (int i = slotCount - 1; i >= 0; i--) {
+            slotTextures[i].bind(i);
+            frameTextureBinds++;
+        }
+
+        mesh.setVertices(vertices, 0, idx);
+        if (isBlendingEnabled()) {
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            if (getBlendSrcFunc() != -1) {
+                Gdx.gl.glBlendFuncSeparate(getBlendSrcFunc(), getBlendDstFunc(), getBlendSrcFuncAlpha(), getBlendDstFuncAlpha());
+            }
+        } else {
+            Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
+        mesh.render(getShader(), GL20.GL_TRIANGLES, 0, spritesInBatch * 6);
+
+        idx = 0;
+        for (int i = 0; i < slotCount; i++) slotTextures[i] = null;
+        slotCount = 0;
+    }
+
+    // --- Stats ---
+
+    public void resetFrameStats() {
+        frameFlushes = 0;
+        frameDrawCalls = 0;
+        frameSlotFlushes = 0;
+        frameTextureBinds = 0;
+    }
+
+    public int getFrameFlushes() {
+        return frameFlushes;
+    }
+
+    public int getFrameDrawCalls() {
+        return frameDrawCalls;
+    }
+
+    public int getFrameSlotFlushes() {
+        return frameSlotFlushes;
+    }
+
+    public int getFrameTextureBinds() {
+        return frameTextureBinds;
+    }
+
+    public int getMaxTextureSlots() {
+        return maxSlots;
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("MultiTextureBatch", "Disposing. Total draw calls: " + totalRenderCalls);
+        mesh.dispose();
+        super.dispose();
+        multiShader.dispose(); // Passed to the parent as its default shader, so it doesn't own it
+    }
+}
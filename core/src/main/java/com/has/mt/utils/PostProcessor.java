@@ -0,0 +1,233 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.crashinvaders.vfx.VfxManager;
+import com.crashinvaders.vfx.effects.BloomEffect;
+import com.crashinvaders.vfx.effects.FilmGrainEffect;
+import com.crashinvaders.vfx.effects.VignettingEffect;
+import com.has.mt.GameConfig;
+
+/**
+ * Optional gdx-vfx post-processing for the game world: bloom (bright spells and sparks),
+ * a vignette that closes in as the player's health drops, and film grain.
+ * The quality tier decides which effects run and the size of the intermediate buffers
+ * relative to the screen. When the average frame time stays over budget the tier is
+ * stepped down one level at a time, eventually to OFF.
+ */
+public class PostProcessor implements Disposable {
+
+    public enum Quality {
+        OFF(0f, 0),
+        LOW(0.5f, 1),    // Vignette only
+        MEDIUM(0.75f, 2), // + bloom
+        HIGH(1f, 3);     // + film grain
+
+        public final float bufferScale; // Intermediate buffer size relative to the screen viewport
+        public final int effectCount;
+
+        Quality(float bufferScale, int effectCount) {
+            this.bufferScale = bufferScale;
+            this.effectCount = effectCount;
+        }
+
+        // Tier from the GameConfig index (0 = Off ... 3 = High)
+        public static Quality fromIndex(int index) {
+            Quality[] values = values();
+            return values[MathUtils.clamp(index, 0, values.length - 1)];
+        }
+    }
+
+    private static final float FRAME_TIME_SMOOTHING = 0.1f; // Weight of the newest frame in the moving average
+    private static final float OVER_BUDGET_RATIO = 1.15f; // Avg frame time above budget * this = too slow
+    private static final float STEP_DOWN_DELAY = 1f; // Seconds over budget before dropping a tier
+
+    private Quality quality;
+    private VfxManager vfxManager;
+    private VignettingEffect vignette;
+    private BloomEffect bloom;
+    private FilmGrainEffect filmGrain;
+
+    private int screenX, screenY, screenWidth, screenHeight;
+    private float healthPercent = 1f;
+    private boolean capturing = false;
+
+    private float averageFrameTime;
+    private float overBudgetTime = 0f;
+
+    public PostProcessor(Quality quality) {
+        this.quality = quality != null ? quality : Quality.OFF;
+        this.averageFrameTime = GameConfig.FRAME_TIME_BUDGET;
+        if (this.quality != Quality.OFF && !createEffects()) {
+            this.quality = Quality.OFF;
+        }
+        Gdx.app.log("PostProcessor", "Quality " + this.quality);
+    }
+
+    public static PostProcessor fromConfig() {
+        return new PostProcessor(Quality.fromIndex(GameConfig.POST_PROCESSING_QUALITY));
+    }
+
+    private boolean createEffects() {
+        try {
+            vfxManager = new VfxManager(Pixmap.Format.RGBA8888);
+            vignette = new VignettingEffect(false);
+            bloom = new BloomEffect();
+            bloom.setThreshold(GameConfig.BLOOM_THRESHOLD); // Only the brightest pixels (spells, sparks) bloom
+            filmGrain = new FilmGrainEffect();
+            filmGrain.setNoiseAmount(0.04f);
+            vfxManager.addEffect(bloom, 0);
+            vfxManager.addEffect(vignette, 1);
+            vfxManager.addEffect(filmGrain, 2);
+            applyQuality();
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("PostProcessor", "Failed to create post-processing effects, disabling", e);
+            disposeEffects();
+            return false;
+        }
+    }
+
+    // Enables the effects of the current tier and resizes the buffers to its scale
+    private void applyQuality() {
+        if (vfxManager == null) return;
+        int count = quality.effectCount;
+        if (bloom != null) {
+            bloom.setDisabled(count < 2);
+            bloom.setBlurPasses(quality == Quality.HIGH ? 2 : 1);
+        }
+        if (filmGrain != null) filmGrain.setDisabled(count < 3);
+        updateVignette();
+        resizeBuffers();
+    }
+
+    private void updateVignette() {
+        if (vignette == null) return;
+        float threshold = GameConfig.LOW_HEALTH_VIGNETTE_THRESHOLD;
+        boolean show = quality.effectCount >= 1 && healthPercent < threshold;
+        vignette.setDisabled(!show); // Disabled effects cost nothing
+        if (show) {
+            float strength = MathUtils.clamp((threshold - healthPercent) / threshold, 0f, 1f);
+            vignette.setIntensity(0.3f + 0.7f * strength);
+        }
+    }
+
+    private void resizeBuffers() {
+        if (vfxManager == null || screenWidth <= 0 || screenHeight <= 0 || quality == Quality.OFF) return;
+        int width = Math.max(1, Math.round(screenWidth * quality.bufferScale));
+        int height = Math.max(1, Math.round(screenHeight * quality.bufferScale));
+        vfxManager.resize(width, height);
+    }
+
+    // Call from resize() after the world viewport has been updated
+    public void resize(Viewport viewport) {
+        if (viewport == null) return; // Safety check
+        screenX = viewport.getScreenX();
+        screenY = viewport.getScreenY();
+        screenWidth = viewport.getScreenWidth();
+        screenHeight = viewport.getScreenHeight();
+        resizeBuffers();
+    }
+
+    // Player health (0..1) drives the vignette
+    public void setHealthPercent(float percent) {
+        if (Math.abs(percent - healthPercent) < 0.001f) return;
+        healthPercent = percent;
+        updateVignette();
+    }
+
+    // Feed the last frame time; advances animated effects and drops the tier when too slow
+    public void update(float delta) {
+        if (quality == Quality.OFF || delta <= 0f) return;
+        vfxManager.update(delta);
+        if (!GameConfig.POST_PROCESSING_AUTO_DOWNGRADE) return;
+
+        averageFrameTime += (delta - averageFrameTime) * FRAME_TIME_SMOOTHING;
+        if (!vfxManager.anyEnabledEffects()) { // Nothing running, so we aren't the reason for slow frames
+            overBudgetTime = 0f;
+            return;
+        }
+        if (averageFrameTime > GameConfig.FRAME_TIME_BUDGET * OVER_BUDGET_RATIO) {
+            overBudgetTime += delta;
+            if (overBudgetTime >= STEP_DOWN_DELAY) {
+                overBudgetTime = 0f;
+                averageFrameTime = GameConfig.FRAME_TIME_BUDGET; // Give the new tier a fresh start
+                setQuality(Quality.values()[quality.ordinal() - 1]);
+            }
+        } else {
+            overBudgetTime = 0f;
+        }
+    }
+
+    public void setQuality(Quality newQuality) {
+        if (newQuality == null || newQuality == quality) return;
+        Gdx.app.log("PostProcessor", "Quality " + quality + " -> " + newQuality
+            + " (avg frame " + (int) (averageFrameTime * 1000f) + " ms)");
+        quality = newQuality;
+        if (quality == Quality.OFF) {
+            disposeEffects(); // Free the buffers and shaders
+            return;
+        }
+        if (vfxManager == null && !createEffects()) {
+            quality = Quality.OFF;
+            return;
+        }
+        applyQuality();
+    }
+
+    public Quality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Starts capturing into the effect buffers and clears them. Returns false when nothing
+     * would be applied this frame, in which case the world should be drawn to the screen as usual.
+     * While capturing, the GL viewport covers the whole buffer, so don't apply the screen viewport.
+     */
+    public boolean begin(float r, float g, float b) {
+        if (quality == Quality.OFF || vfxManager == null || !vfxManager.anyEnabledEffects()) return false;
+        if (screenWidth <= 0 || screenHeight <= 0) return false; // resize() not called yet
+        try {
+            vfxManager.cleanUpBuffers();
+            vfxManager.beginInputCapture();
+        } catch (Exception e) {
+            Gdx.app.error("PostProcessor", "Failed to begin capture, disabling post-processing", e);
+            setQuality(Quality.OFF);
+            return false;
+        }
+        capturing = true;
+        Gdx.gl.glClearColor(r, g, b, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        return true;
+    }
+
+    // Ends the capture, runs the enabled effects and draws the result into the screen viewport
+    public void endAndRender() {
+        if (!capturing) return;
+        capturing = false;
+        vfxManager.endInputCapture();
+        vfxManager.applyEffects();
+        vfxManager.renderToScreen(screenX, screenY, screenWidth, screenHeight);
+    }
+
+    private void disposeEffects() {
+        if (vfxManager != null) { vfxManager.removeAllEffects(); vfxManager.dispose(); vfxManager = null; }
+        if (bloom != null) { bloom.dispose(); bloom = null; }
+        if (vignette != null) { vignette.dispose(); vignette = null; }
+        if (filmGrain != null) { filmGrain.dispose(); filmGrain = null; }
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("PostProcessor", "Disposing post-processor");
+        if (capturing) {
+            vfxManager.endInputCapture();
+            capturing = false;
+        }
+        disposeEffects();
+    }
+}
@@ -0,0 +1,224 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.has.mt.GameConfig;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Collects the visible world sprites for a frame and turns them into SpriteBatch vertex data.
+ * Sprites are stored in submission order (which is the draw order). When a frame has enough of
+ * them, the vertex math is split into slices of one preallocated array and built on worker
+ * threads while the GL thread builds the last slice itself; the GL thread then only hands
+ * each same-texture run to the batch.
+ */
+public class SpriteRenderQueue implements Disposable {
+
+    private static final int SPRITE_SIZE = 20; // SpriteBatch layout: 4 vertices * (x, y, color, u, v)
+    private static final int MIN_SPRITES_PER_SLICE = 16;
+
+    // Per-sprite input, filled on the GL thread
+    private TextureRegion[] regions;
+    private float[] xs, ys, widths, heights, colors;
+    private boolean[] flips;
+    private int count = 0;
+
+    private float[] vertices; // Output, each worker writes only its own slice
+    private final ExecutorService workers; // null = always build on the calling thread
+    private final int workerCount;
+    private final SliceTask[] tasks;
+
+    public SpriteRenderQueue(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+        int threads = Math.min(GameConfig.RENDER_WORKER_THREADS, Runtime.getRuntime().availableProcessors() - 1);
+        if (threads > 0) {
+            workers = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "SpriteVertexWorker");
+                thread.setDaemon(true); // Never keep the app alive
+                return thread;
+            });
+            workerCount = threads;
+        } else {
+            workers = null;
+            workerCount = 0;
+        }
+        tasks = new SliceTask[workerCount];
+        for (int i = 0; i < workerCount; i++) tasks[i] = new SliceTask();
+        Gdx.app.log("SpriteRenderQueue", "Using " + workerCount + " vertex worker thread(s).");
+    }
+
+    private void allocate(int capacity) {
+        TextureRegion[] newRegions = new TextureRegion[capacity];
+        float[] newXs = new float[capacity], newYs = new float[capacity];
+        float[] newWidths = new float[capacity], newHeights = new float[capacity], newColors = new float[capacity];
+        boolean[] newFlips = new boolean[capacity];
+        if (regions != null) {
+            System.arraycopy(regions, 0, newRegions, 0, count);
+            System.arraycopy(xs, 0, newXs, 0, count);
+            System.arraycopy(ys, 0, newYs, 0, count);
+            System.arraycopy(widths, 0, newWidths, 0, count);
+            System.arraycopy(heights, 0, newHeights, 0, count);
+            System.arraycopy(colors, 0, newColors, 0, count);
+            System.arraycopy(flips, 0, newFlips, 0, count);
+        }
+        regions = newRegions;
+        xs = newXs;
+        ys = newYs;
+        widths = newWidths;
+        heights = newHeights;
+        colors = newColors;
+        flips = newFlips;
+        vertices = new float[capacity * SPRITE_SIZE];
+    }
+
+    public void add(TextureRegion region, float x, float y, float width, float height, boolean flipX) {
+        add(region, x, y, width, height, flipX, Color.WHITE_FLOAT_BITS);
+    }
+
+    public void add(TextureRegion region, float x, float y, float width, float height, boolean flipX, float packedColor) {
+        if (region == null || region.getTexture() == null) return; // Safety check
+        if (count == regions.length) allocate(count * 2);
+        regions[count] = region;
+        xs[count] = x;
+        ys[count] = y;
+        widths[count] = width;
+        heights[count] = height;
+        flips[count] = flipX;
+        colors[count] = packedColor;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Builds vertices for everything queued, draws it through the batch (which must be drawing) and clears the queue. */
+    public void flush(SpriteBatch batch) {
+        if (count == 0) return;
+        if (batch == null) { clear(); return; } // Safety check
+
+        buildVertices();
+
+        // Hand each run of sprites sharing a texture to the batch in one call
+        int runStart = 0;
+        Texture runTexture = regions[0].getTexture();
+        for (int i = 1; i <= count; i++) {
+            Texture texture = (i < count) ? regions[i].getTexture() : null;
+            if (texture != runTexture) {
+                batch.draw(runTexture, vertices, runStart * SPRITE_SIZE, (i - runStart) * SPRITE_SIZE);
+                runStart = i;
+                runTexture = texture;
+            }
+        }
+        clear();
+    }
+
+    private void buildVertices() {
+        int slices = (workers == null) ? 1 : Math.min(workerCount + 1, count / MIN_SPRITES_PER_SLICE);
+        if (count < GameConfig.PARALLEL_SPRITE_THRESHOLD || slices <= 1) {
+            buildRange(0, count);
+            return;
+        }
+
+        int perSlice = (count + slices - 1) / slices;
+        CountDownLatch done = new CountDownLatch(slices - 1);
+        int submitted = 0;
+        try {
+            for (int s = 0; s < slices - 1; s++) {
+                SliceTask task = tasks[s];
+                task.start = s * perSlice;
+                task.end = Math.min(count, task.start + perSlice);
+                task.done = done;
+                workers.execute(task);
+                submitted++;
+            }
+        } catch (RejectedExecutionException e) {
+            Gdx.app.error("SpriteRenderQueue", "Worker rejected slice, building remaining sprites on the GL thread", e);
+        }
+        // The GL thread takes the last slice plus anything that could not be submitted
+        buildRange(submitted * perSlice, count);
+        for (int s = submitted; s < slices - 1; s++) done.countDown();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Gdx.app.error("SpriteRenderQueue", "Interrupted waiting for vertex workers", e);
+        }
+    }
+
+    // Same vertex layout and corner order as SpriteBatch.draw(TextureRegion, x, y, w, h)
+    private void buildRange(int start, int end) {
+        float[] vertices = this.vertices;
+        for (int i = start; i < end; i++) {
+            TextureRegion region = regions[i];
+            float x = xs[i], y = ys[i];
+            float x2 = x + widths[i], y2 = y + heights[i];
+            float u = region.getU(), u2 = region.getU2();
+            if (flips[i]) { float tmp = u; u = u2; u2 = tmp; } // Facing left
+            float v = region.getV2(), v2 = region.getV();
+            float color = colors[i];
+
+            int idx = i * SPRITE_SIZE;
+            vertices[idx] = x;
+            vertices[idx + 1] = y;
+            vertices[idx + 2] = color;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v;
+
+            vertices[idx + 5] = x;
+            vertices[idx + 6] = y2;
+            vertices[idx + 7] = color;
+            vertices[idx + 8] = u;
+            vertices[idx + 9] = v2;
+
+            vertices[idx + 10] = x2;
+            vertices[idx + 11] = y2;
+            vertices[idx + 12] = color;
+            vertices[idx + 13] = u2;
+            vertices[idx + 14] = v2;
+
+            vertices[idx + 15] = x2;
+            vertices[idx + 16] = y;
+            vertices[idx + 17] = color;
+            vertices[idx + 18] = u2;
+            vertices[idx + 19] = v;
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < count; i++) regions[i] = null; // Don't hold on to regions between frames
+        count = 0;
+    }
+
+    private class SliceTask implements Runnable {
+        int start, end;
+        CountDownLatch done;
+
+        @Override
+        public void run() {
+            try {
+                buildRange(start, end);
+            } catch (Exception e) {
+                Gdx.app.error("SpriteRenderQueue", "Vertex worker failed for sprites " + start + "-" + end, e);
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+}
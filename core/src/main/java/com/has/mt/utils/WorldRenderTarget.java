@@ -0,0 +1,175 @@
+package com.has.mt.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.has.mt.GameConfig;
+
+/**
+ * Off-screen target for the game world. The world is drawn into a FrameBuffer that is
+ * V_WIDTH / divisor by V_HEIGHT / divisor pixels and then blitted to the screen in one
+ * nearest-filtered quad, so every low-res pixel becomes an exact divisor x divisor block.
+ * In dynamic mode the divisor is raised when frame time goes over budget and lowered
+ * again once it has been back under budget for a while.
+ */
+public class WorldRenderTarget implements Disposable {
+
+    public enum Mode { NATIVE, FIXED, DYNAMIC }
+
+    private static final float FRAME_TIME_SMOOTHING = 0.1f; // Weight of the newest frame in the moving average
+    private static final float OVER_BUDGET_RATIO = 1.15f; // Avg frame time above budget * this = too slow
+    private static final float UNDER_BUDGET_RATIO = 1.05f; // Avg frame time below budget * this = fine
+    private static final float STEP_DOWN_DELAY = 0.5f; // Seconds over budget before dropping resolution
+    private static final float STEP_UP_DELAY = 5f; // Seconds under budget before raising resolution again
+
+    private Mode mode;
+    private final int minDivisor;
+    private final int maxDivisor;
+    private int divisor;
+    private FrameBuffer frameBuffer;
+    private final Matrix4 blitProjection = new Matrix4();
+    private boolean capturing = false;
+
+    // Dynamic mode bookkeeping
+    private float averageFrameTime;
+    private float overBudgetTime = 0f;
+    private float underBudgetTime = 0f;
+
+    public WorldRenderTarget(Mode mode, int fixedDivisor, int maxDivisor) {
+        this.mode = mode != null ? mode : Mode.NATIVE;
+        this.maxDivisor = Math.max(1, maxDivisor);
+        this.minDivisor = (this.mode == Mode.FIXED) ? clampDivisor(fixedDivisor, this.maxDivisor) : 1;
+        this.divisor = this.minDivisor;
+        this.averageFrameTime = GameConfig.FRAME_TIME_BUDGET;
+        this.blitProjection.setToOrtho2D(0, 0, GameConfig.V_WIDTH, GameConfig.V_HEIGHT);
+        Gdx.app.log("WorldRenderTarget", "Mode " + this.mode + ", divisor " + divisor + " (max " + this.maxDivisor + ")");
+    }
+
+    // Builds the target from the GameConfig switches
+    public static WorldRenderTarget fromConfig() {
+        Mode mode = Mode.NATIVE;
+        if (GameConfig.DYNAMIC_RESOLUTION) mode = Mode.DYNAMIC;
+        else if (GameConfig.LOW_RES_WORLD) mode = Mode.FIXED;
+        return new WorldRenderTarget(mode, GameConfig.LOW_RES_WORLD_DIVISOR, GameConfig.DYNAMIC_RES_MAX_DIVISOR);
+    }
+
+    private static int clampDivisor(int value, int max) {
+        return Math.max(1, Math.min(max, value));
+    }
+
+    // Feed the last frame time; only has an effect in DYNAMIC mode
+    public void update(float delta) {
+        if (mode != Mode.DYNAMIC || delta <= 0f) return;
+        averageFrameTime += (delta - averageFrameTime) * FRAME_TIME_SMOOTHING;
+
+        float budget = GameConfig.FRAME_TIME_BUDGET;
+        if (averageFrameTime > budget * OVER_BUDGET_RATIO) {
+            overBudgetTime += delta;
+            underBudgetTime = 0f;
+            if (overBudgetTime >= STEP_DOWN_DELAY && divisor < maxDivisor) {
+                setDivisor(divisor + 1);
+                overBudgetTime = 0f;
+            }
+        } else if (averageFrameTime < budget * UNDER_BUDGET_RATIO) {
+            underBudgetTime += delta;
+            overBudgetTime = 0f;
+            if (underBudgetTime >= STEP_UP_DELAY && divisor > minDivisor) {
+                setDivisor(divisor - 1);
+                underBudgetTime = 0f;
+            }
+        } else {
+            overBudgetTime = 0f;
+            underBudgetTime = 0f;
+        }
+    }
+
+    private void setDivisor(int newDivisor) {
+        newDivisor = clampDivisor(newDivisor, maxDivisor);
+        if (newDivisor == divisor) return;
+        Gdx.app.log("WorldRenderTarget", "Resolution divisor " + divisor + " -> " + newDivisor
+            + " (avg frame " + (int) (averageFrameTime * 1000f) + " ms)");
+        divisor = newDivisor;
+        disposeFrameBuffer(); // Recreated at the new size on next begin()
+    }
+
+    /**
+     * Binds the off-screen target and clears it. Returns false when the world should be
+     * drawn straight to the screen instead (native resolution or FrameBuffer failure).
+     */
+    public boolean begin(float r, float g, float b) {
+        if (divisor <= 1 || mode == Mode.NATIVE) return false;
+        if (frameBuffer == null && !createFrameBuffer()) return false;
+        frameBuffer.begin();
+        capturing = true;
+        Gdx.gl.glClearColor(r, g, b, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        return true;
+    }
+
+    // Unbinds the target; blit() draws it afterwards, possibly after post-processing
+    public void end() {
+        if (!capturing) return;
+        frameBuffer.end();
+        capturing = false;
+    }
+
+    // Draws the last captured frame. With a null viewport the current GL viewport is kept.
+    public void blit(SpriteBatch batch, Viewport viewport) {
+        if (batch == null || frameBuffer == null) return; // Safety check
+        if (viewport != null) viewport.apply();
+        batch.setProjectionMatrix(blitProjection);
+        batch.disableBlending(); // World target is opaque, skip blending for the full-screen quad
+        batch.begin();
+        // FrameBuffer textures are stored bottom-up, so v runs 0 (bottom) to 1 (top)
+        batch.draw(frameBuffer.getColorBufferTexture(), 0, 0, GameConfig.V_WIDTH, GameConfig.V_HEIGHT, 0f, 0f, 1f, 1f);
+        batch.end();
+        batch.enableBlending();
+    }
+
+    private boolean createFrameBuffer() {
+        int width = Math.round(GameConfig.V_WIDTH / divisor);
+        int height = Math.round(GameConfig.V_HEIGHT / divisor);
+        try {
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+            Gdx.app.log("WorldRenderTarget", "Created world target " + width + "x" + height);
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("WorldRenderTarget", "Failed to create " + width + "x" + height + " FrameBuffer, rendering at native resolution", e);
+            frameBuffer = null;
+            mode = Mode.NATIVE; // Don't retry every frame
+            return false;
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getDivisor() {
+        return divisor;
+    }
+
+    private void disposeFrameBuffer() {
+        if (frameBuffer != null) {
+            if (capturing) {
+                frameBuffer.end();
+                capturing = false;
+            }
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        Gdx.app.log("WorldRenderTarget", "Disposing world render target");
+        disposeFrameBuffer();
+    }
+}
@@ -2,6 +2,7 @@ package com.has.mt.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import com.has.mt.MyGdxGame;
 
 /** Launches the desktop (LWJGL3) application. */
@@ -12,10 +13,11 @@ public class Lwjgl3Launcher {
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new MyGdxGame(), getDefaultConfiguration());
+        MyGdxGame game = new MyGdxGame();
+        return new Lwjgl3Application(game, getDefaultConfiguration(game));
     }
 
-    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
+    private static Lwjgl3ApplicationConfiguration getDefaultConfiguration(MyGdxGame game) {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("HackAndSlash");
         //// Vsync limits the frames per second to what your hardware can display, and helps eliminate
@@ -28,6 +30,18 @@ public class Lwjgl3Launcher {
         //// useful for testing performance, but can also be very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
         configuration.setWindowedMode(640, 480);
+        //// Lets the game lower its frame rate while the window is in the background.
+        configuration.setWindowListener(new Lwjgl3WindowAdapter() {
+            @Override
+            public void focusLost() {
+                game.setWindowFocused(false);
+            }
+
+            @Override
+            public void focusGained() {
+                game.setWindowFocused(true);
+            }
+        });
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
         return configuration;